@@ -0,0 +1,4 @@
+-- Spreads requests over many ids so RequestCoalescer does not fold them into one upstream call
+request = function()
+  return wrk.format("GET", "/myapp/api/v1/employee/" .. math.random(1, 100000))
+end
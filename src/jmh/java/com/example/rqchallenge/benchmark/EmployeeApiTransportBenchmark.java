@@ -0,0 +1,86 @@
+package com.example.rqchallenge.benchmark;
+
+import com.example.rqchallenge.config.EmployeeApiResilienceProperties;
+import com.example.rqchallenge.config.EmployeeApiTransportConfiguration;
+import com.example.rqchallenge.config.EmployeeApiTransportProperties;
+import com.example.rqchallenge.config.EmployeeBulkProperties;
+import com.example.rqchallenge.resilience.EmployeeApiRateLimiters;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-call latency of a single employee lookup against an in-process HTTP stub, through Feign's default
+ * {@code HttpURLConnection} client and through the pooled OkHttp transport the application uses.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EmployeeApiTransportBenchmark {
+
+    @Param({"default", "pooled"})
+    private String transport;
+
+    private HttpServer server;
+
+    private Client client;
+
+    private Request request;
+
+    private final Request.Options options = new Request.Options();
+
+    @Setup
+    public void setup() throws IOException {
+        byte[] body = new ObjectMapper().writeValueAsBytes(Map.of("status", "success",
+                "data", SyntheticRoster.employeeDtos(1).get(0)));
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/api/v1/employee/1", exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream responseBody = exchange.getResponseBody()) {
+                responseBody.write(body);
+            }
+        });
+        server.setExecutor(Executors.newFixedThreadPool(4));
+        server.start();
+        request = Request.create(Request.HttpMethod.GET,
+                "http://localhost:" + server.getAddress().getPort() + "/api/v1/employee/1", Map.of(), null,
+                StandardCharsets.UTF_8, null);
+        if ("pooled".equals(transport)) {
+            EmployeeApiTransportProperties transportProperties = new EmployeeApiTransportProperties();
+            EmployeeApiResilienceProperties resilienceProperties = new EmployeeApiResilienceProperties();
+            resilienceProperties.getRateLimiter().setEnabled(false);
+            EmployeeApiTransportConfiguration configuration = new EmployeeApiTransportConfiguration();
+            client = configuration.employeeApiFeignClient(configuration.employeeApiHttpClient(
+                    configuration.employeeApiConnectionPool(transportProperties), transportProperties), transportProperties,
+                    new EmployeeApiRateLimiters(resilienceProperties, new EmployeeBulkProperties(), new SimpleMeterRegistry()));
+        } else {
+            client = new Client.Default(null, null);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Benchmark
+    public byte[] getEmployeeById() throws IOException {
+        try (Response response = client.execute(request, options); InputStream body = response.body().asInputStream()) {
+            return body.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.rqchallenge.benchmark;
+
+import com.example.rqchallenge.feign.EmployeeResponseDecoder;
+import com.example.rqchallenge.feign.dto.EmployeeListApiResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+import feign.Request;
+import feign.Response;
+import feign.codec.Decoder;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.cloud.openfeign.support.HttpMessageConverterCustomizer;
+import org.springframework.cloud.openfeign.support.SpringDecoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decoding of a {@code getAllEmployees} response body, through the {@code SpringDecoder} Spring Cloud OpenFeign
+ * sets up by default and through {@link EmployeeResponseDecoder}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EmployeeDecoderBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int rosterSize;
+
+    @Param({"jackson", "streaming"})
+    private String decoder;
+
+    private Decoder employeeDecoder;
+
+    private Response response;
+
+    @Setup
+    public void setup() throws IOException {
+        // Spring Boot registers the parameter names module, EmployeeDto is bound through its constructor
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().modulesToInstall(new ParameterNamesModule()).build();
+        Decoder springDecoder = new SpringDecoder(() -> new HttpMessageConverters(new MappingJackson2HttpMessageConverter(objectMapper)),
+                new DefaultListableBeanFactory().getBeanProvider(HttpMessageConverterCustomizer.class));
+        employeeDecoder = "streaming".equals(decoder) ? new EmployeeResponseDecoder(objectMapper.getFactory(), springDecoder) : springDecoder;
+        Request request = Request.create(Request.HttpMethod.GET, "http://localhost/api/v1/employees", Map.of(), null,
+                StandardCharsets.UTF_8, null);
+        response = Response.builder()
+                .status(200)
+                .request(request)
+                .headers(Map.<String, Collection<String>>of("Content-Type", List.of("application/json")))
+                .body(SyntheticRoster.upstreamJson(SyntheticRoster.employeeDtos(rosterSize)))
+                .build();
+    }
+
+    @Benchmark
+    public Object decodeEmployeeList() throws IOException {
+        return employeeDecoder.decode(response, EmployeeListApiResponse.class);
+    }
+}
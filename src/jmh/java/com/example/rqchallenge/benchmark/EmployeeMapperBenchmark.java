@@ -0,0 +1,40 @@
+package com.example.rqchallenge.benchmark;
+
+import com.example.rqchallenge.feign.dto.EmployeeDto;
+import com.example.rqchallenge.mapper.EmployeeMapper;
+import com.example.rqchallenge.mapper.IEmployeeMapper;
+import com.example.rqchallenge.model.Employee;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EmployeeMapperBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int rosterSize;
+
+    private final EmployeeMapper employeeMapper = new EmployeeMapper();
+
+    private List<EmployeeDto> employeeDtos;
+
+    @Setup
+    public void setup() {
+        employeeDtos = SyntheticRoster.employeeDtos(rosterSize);
+    }
+
+    @Benchmark
+    public List<Employee> mapToModelList() {
+        return employeeMapper.mapToModelList(employeeDtos, Employee.class);
+    }
+
+    @Benchmark
+    public List<Employee> objectMapperConvertValue() {
+        return employeeDtos.stream()
+                .map(employeeDto -> IEmployeeMapper.objectMapper.convertValue(employeeDto, Employee.class))
+                .toList();
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.rqchallenge.benchmark;
+
+import com.example.rqchallenge.mapper.EmployeeMapper;
+import com.example.rqchallenge.model.Employee;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EmployeeSerializationBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int rosterSize;
+
+    @Param({"json", "smile", "cbor"})
+    private String format;
+
+    private ObjectMapper objectMapper;
+
+    private List<Employee> employees;
+
+    private List<String> topTenNames;
+
+    @Setup
+    public void setup() {
+        // Same defaults Spring MVC applies when writing controller responses
+        objectMapper = switch (format) {
+            case "smile" -> Jackson2ObjectMapperBuilder.smile().build();
+            case "cbor" -> Jackson2ObjectMapperBuilder.cbor().build();
+            default -> Jackson2ObjectMapperBuilder.json().build();
+        };
+        employees = new EmployeeMapper().mapToModelList(SyntheticRoster.employeeDtos(rosterSize), Employee.class);
+        topTenNames = employees.stream().limit(10).map(Employee::getEmployeeName).toList();
+    }
+
+    @Benchmark
+    public byte[] writeEmployeeList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(employees);
+    }
+
+    @Benchmark
+    public byte[] writeSingleEmployee() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(employees.get(0));
+    }
+
+    @Benchmark
+    public byte[] writeTopTenNames() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(topTenNames);
+    }
+}
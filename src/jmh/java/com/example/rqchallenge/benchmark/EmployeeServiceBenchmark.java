@@ -0,0 +1,107 @@
+package com.example.rqchallenge.benchmark;
+
+import com.example.rqchallenge.cache.EmployeeDelta;
+import com.example.rqchallenge.cache.EmployeeSnapshot;
+import com.example.rqchallenge.cache.EmployeeSnapshotCache;
+import com.example.rqchallenge.config.EmployeeApiResilienceProperties;
+import com.example.rqchallenge.config.EmployeeBulkProperties;
+import com.example.rqchallenge.config.EmployeeCacheProperties;
+import com.example.rqchallenge.config.EmployeeDeleteProperties;
+import com.example.rqchallenge.feign.EmployeeApiClient;
+import com.example.rqchallenge.feign.EmployeeListStreamReader;
+import com.example.rqchallenge.feign.RequestCoalescer;
+import com.example.rqchallenge.feign.dto.EmployeeDto;
+import com.example.rqchallenge.mapper.EmployeeMapper;
+import com.example.rqchallenge.model.Employee;
+import com.example.rqchallenge.model.NameSearchMode;
+import com.example.rqchallenge.resilience.EmployeeApiGuard;
+import com.example.rqchallenge.service.BulkDispatcher;
+import com.example.rqchallenge.service.EmployeeService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EmployeeServiceBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int rosterSize;
+
+    private EmployeeService employeeService;
+
+    private EmployeeSnapshotCache employeeSnapshotCache;
+
+    private List<Employee> employees;
+
+    @Setup
+    public void setup() {
+        List<EmployeeDto> employeeDtos = SyntheticRoster.employeeDtos(rosterSize);
+        EmployeeApiClient employeeApiClient = SyntheticRoster.apiClient(employeeDtos);
+        EmployeeMapper employeeMapper = new EmployeeMapper();
+        EmployeeCacheProperties cacheProperties = new EmployeeCacheProperties();
+        cacheProperties.setRefreshInterval(Duration.ofDays(1));
+        cacheProperties.setTtl(Duration.ofDays(1));
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        RequestCoalescer requestCoalescer = new RequestCoalescer(meterRegistry);
+        EmployeeApiGuard employeeApiGuard = new EmployeeApiGuard(new EmployeeApiResilienceProperties(), meterRegistry);
+        employeeSnapshotCache = new EmployeeSnapshotCache(employeeApiClient, requestCoalescer, employeeApiGuard,
+                employeeMapper, cacheProperties, meterRegistry, event -> { });
+        employeeService = new EmployeeService(employeeApiClient, requestCoalescer, employeeApiGuard,
+                new EmployeeListStreamReader(new ObjectMapper()), employeeMapper, employeeSnapshotCache,
+                new BulkDispatcher(new EmployeeBulkProperties()), new EmployeeDeleteProperties());
+        employees = employeeMapper.mapToModelList(employeeDtos, Employee.class);
+        // Warm the snapshot and its lazily built name index so the query benchmarks measure reads only
+        employeeService.getEmployeesByNameSearch("Punit");
+    }
+
+    @TearDown
+    public void tearDown() {
+        employeeSnapshotCache.shutdown();
+    }
+
+    @Benchmark
+    public List<Employee> getAllEmployees() {
+        return employeeService.getAllEmployees();
+    }
+
+    @Benchmark
+    public Integer getHighestSalaryOfEmployees() {
+        return employeeService.getHighestSalaryOfEmployees();
+    }
+
+    @Benchmark
+    public List<String> getTopTenHighestEarningEmployeeNames() {
+        return employeeService.getTopTenHighestEarningEmployeeNames();
+    }
+
+    @Benchmark
+    public List<Employee> searchContains() {
+        return employeeService.getEmployeesByNameSearch("a Sha");
+    }
+
+    @Benchmark
+    public List<Employee> searchPrefixIgnoringCase() {
+        return employeeService.getEmployeesByNameSearch("punit jain 1", NameSearchMode.PREFIX, true);
+    }
+
+    @Benchmark
+    public EmployeeSnapshot buildSnapshot() {
+        return new EmployeeSnapshot(employees, 1, System.nanoTime());
+    }
+
+    @Benchmark
+    public EmployeeDelta diffUnchangedRoster() {
+        return EmployeeDelta.between(employeeSnapshotCache.getLastGoodSnapshot().getTable(), employees, rosterSize);
+    }
+
+    @Benchmark
+    public Object buildSnapshotWithNameIndex() {
+        return new EmployeeSnapshot(employees, 1, System.nanoTime()).getNameSearchIndex();
+    }
+}
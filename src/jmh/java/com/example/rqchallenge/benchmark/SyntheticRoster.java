@@ -0,0 +1,100 @@
+package com.example.rqchallenge.benchmark;
+
+import com.example.rqchallenge.feign.EmployeeApiClient;
+import com.example.rqchallenge.feign.dto.EmployeeApiResponse;
+import com.example.rqchallenge.feign.dto.EmployeeDto;
+import com.example.rqchallenge.feign.dto.EmployeeListApiResponse;
+import com.example.rqchallenge.model.CreateEmployeeRequest;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import feign.Response;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+final class SyntheticRoster {
+
+    private static final String[] FIRST_NAMES = {"Punit", "Rohit", "Sumit", "Anita", "Priya", "Tiger", "Garrett",
+            "Ashton", "Cedric", "Airi", "Brielle", "Herrod", "Rhona", "Colleen", "Sonya", "Jena", "Quinn"};
+
+    private static final String[] LAST_NAMES = {"Jain", "Mehta", "Shah", "Nixon", "Winters", "Cox", "Kelly", "Satou",
+            "Williamson", "Chandler", "Davidson", "Hurst", "Frost", "Gaines", "Flynn", "Marshall", "Kennedy"};
+
+    private SyntheticRoster() {
+    }
+
+    static List<EmployeeDto> employeeDtos(int size) {
+        Random random = new Random(size);
+        List<EmployeeDto> employeeDtos = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            employeeDtos.add(EmployeeDto.builder()
+                    .id((long) i + 1)
+                    .employeeName(FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                            + LAST_NAMES[random.nextInt(LAST_NAMES.length)] + " " + Integer.toString(i, 36))
+                    .employeeSalary(20_000 + random.nextInt(480_000))
+                    .employeeAge(20 + random.nextInt(45))
+                    .profileImage("")
+                    .build());
+        }
+        return employeeDtos;
+    }
+
+    // The list response as the dummy API sends it, under its employee_* field names
+    static byte[] upstreamJson(List<EmployeeDto> employeeDtos) throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream(employeeDtos.size() * 128);
+        try (JsonGenerator generator = new JsonFactory().createGenerator(body)) {
+            generator.writeStartObject();
+            generator.writeStringField("status", "success");
+            generator.writeArrayFieldStart("data");
+            for (EmployeeDto employeeDto : employeeDtos) {
+                generator.writeStartObject();
+                generator.writeNumberField("id", employeeDto.getId());
+                generator.writeStringField("employee_name", employeeDto.getEmployeeName());
+                generator.writeNumberField("employee_salary", (long) employeeDto.getEmployeeSalary());
+                generator.writeNumberField("employee_age", employeeDto.getEmployeeAge());
+                generator.writeStringField("profile_image", employeeDto.getProfileImage());
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+            generator.writeStringField("message", "Successfully! All records has been fetched.");
+            generator.writeEndObject();
+        }
+        return body.toByteArray();
+    }
+
+    static EmployeeApiClient apiClient(List<EmployeeDto> employeeDtos) {
+        EmployeeListApiResponse listResponse = EmployeeListApiResponse.builder()
+                .status("success")
+                .data(employeeDtos)
+                .build();
+        return new EmployeeApiClient() {
+            @Override
+            public EmployeeListApiResponse getAllEmployees() {
+                return listResponse;
+            }
+
+            @Override
+            public Response streamAllEmployees() {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public EmployeeApiResponse getEmployeeById(String id) {
+                return EmployeeApiResponse.builder().status("success").data(employeeDtos.get(Integer.parseInt(id) - 1)).build();
+            }
+
+            @Override
+            public EmployeeApiResponse createEmployee(CreateEmployeeRequest createEmployeeRequest) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public EmployeeApiResponse deleteEmployeeById(String id) {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+}
@@ -2,6 +2,7 @@ package com.example.rqchallenge;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 import org.springframework.cloud.openfeign.EnableFeignClients;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.EnableAspectJAutoProxy;
@@ -12,6 +13,7 @@ import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
 @EnableFeignClients
 @EnableRetry
 @EnableAspectJAutoProxy
+@ConfigurationPropertiesScan
 public class RqChallengeApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,94 @@
+package com.example.rqchallenge.aspect;
+
+import com.example.rqchallenge.config.EmployeeMetricsProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times methods annotated with {@code @EnableExecutionTimeLogging} into {@code employee.service.execution} timers
+ * tagged by method and outcome. Only slow calls and a sample of the rest are logged.
+ */
+@Aspect
+@Component
+@Slf4j
+public class ExecutionTimeMetricsAspect {
+
+    private final MeterRegistry meterRegistry;
+    private final EmployeeMetricsProperties metricsProperties;
+    private final Map<Method, MethodTimers> timers = new ConcurrentHashMap<>();
+
+    public ExecutionTimeMetricsAspect(MeterRegistry meterRegistry, EmployeeMetricsProperties metricsProperties) {
+        this.meterRegistry = meterRegistry;
+        this.metricsProperties = metricsProperties;
+    }
+
+    @Around("@annotation(com.example.rqchallenge.annotation.EnableExecutionTimeLogging)")
+    public Object recordExecutionTime(ProceedingJoinPoint joinPoint) throws Throwable {
+        long startTime = System.nanoTime();
+        boolean failed = true;
+        try {
+            Object proceed = joinPoint.proceed();
+            failed = false;
+            return proceed;
+        } finally {
+            long totalTime = System.nanoTime() - startTime;
+            MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+            MethodTimers methodTimers = timers.computeIfAbsent(signature.getMethod(), MethodTimers::new);
+            methodTimers.outcome(failed).record(totalTime, TimeUnit.NANOSECONDS);
+            logSampled(signature, totalTime, failed);
+        }
+    }
+
+    private void logSampled(MethodSignature signature, long totalTime, boolean failed) {
+        if (totalTime >= metricsProperties.getSlowCallThreshold().toNanos()) {
+            log.warn("{} executed in {} ms", signature.toShortString(), totalTime / 1_000_000);
+        } else if (log.isInfoEnabled() && ThreadLocalRandom.current().nextDouble() < metricsProperties.getLogSampleRate()) {
+            log.info("{} executed in {} ms{}", signature.toShortString(), totalTime / 1_000_000, failed ? " and failed" : "");
+        }
+    }
+
+    // Each outcome registers on first use, so a method that never fails publishes no failure series. Racing first
+    // uses both get the one timer the registry holds for the name and tags.
+    private class MethodTimers {
+
+        private final Method method;
+        private volatile Timer success;
+        private volatile Timer failure;
+
+        MethodTimers(Method method) {
+            this.method = method;
+        }
+
+        Timer outcome(boolean failed) {
+            if (failed) {
+                Timer timer = failure;
+                return null != timer ? timer : (failure = timer("failure"));
+            }
+            Timer timer = success;
+            return null != timer ? timer : (success = timer("success"));
+        }
+
+        private Timer timer(String outcome) {
+            return Timer.builder("employee.service.execution")
+                    .description("Execution time of service methods")
+                    .tag("class", method.getDeclaringClass().getSimpleName())
+                    .tag("method", method.getName())
+                    .tag("outcome", outcome)
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.rqchallenge.cache;
+
+import com.example.rqchallenge.index.EmployeeTable;
+import com.example.rqchallenge.model.Employee;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * What changed between a snapshot's table and a fresh upstream roster, with rows matched by id. Updated rows are
+ * keyed by their row in the table, deleted rows are the table rows no upstream employee matched.
+ */
+@Getter
+public class EmployeeDelta {
+
+    private final Map<Integer, Employee> updated;
+    private final BitSet deleted;
+    private final List<Employee> inserted;
+
+    private EmployeeDelta(Map<Integer, Employee> updated, BitSet deleted, List<Employee> inserted) {
+        this.updated = updated;
+        this.deleted = deleted;
+        this.inserted = inserted;
+    }
+
+    /**
+     * Null when the roster is better reloaded than patched: it has rows without an id or repeats the id of a row in
+     * the table, or more than {@code maxChanges} rows changed. A new id the roster repeats is inserted once, as the
+     * first of its rows. The upstream keeps its order between calls, so each employee is first looked for in the row
+     * after the last match and only searched for when it is not there.
+     */
+    public static EmployeeDelta between(EmployeeTable table, List<Employee> upstream, int maxChanges) {
+        Map<Integer, Employee> updated = new HashMap<>();
+        List<Employee> inserted = new ArrayList<>();
+        Set<Long> insertedIds = new HashSet<>();
+        BitSet matched = new BitSet(table.size());
+        int next = 0;
+        int searches = 0;
+        for (Employee employee : upstream) {
+            if (null == employee.getId()) {
+                return null;
+            }
+            long id = employee.getId();
+            int row;
+            if (next < table.size() && table.hasId(next, id)) {
+                row = next;
+            } else {
+                if (++searches > maxChanges) return null;
+                row = table.rowOf(id);
+            }
+            if (row < 0) {
+                if (insertedIds.add(id)) inserted.add(employee);
+            } else if (matched.get(row)) {
+                return null;
+            } else {
+                matched.set(row);
+                if (!table.matches(row, employee)) updated.put(row, employee);
+                next = row + 1;
+            }
+            if (updated.size() + inserted.size() > maxChanges) {
+                return null;
+            }
+        }
+        BitSet deleted = new BitSet(table.size());
+        deleted.set(0, table.size());
+        deleted.andNot(matched);
+        if (updated.size() + inserted.size() + deleted.cardinality() > maxChanges) {
+            return null;
+        }
+        return new EmployeeDelta(updated, deleted, inserted);
+    }
+
+    public boolean isEmpty() {
+        return updated.isEmpty() && deleted.isEmpty() && inserted.isEmpty();
+    }
+
+    public int size() {
+        return updated.size() + deleted.cardinality() + inserted.size();
+    }
+}
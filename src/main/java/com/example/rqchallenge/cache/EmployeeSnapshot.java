@@ -0,0 +1,151 @@
+package com.example.rqchallenge.cache;
+
+import com.example.rqchallenge.index.EmployeeTable;
+import com.example.rqchallenge.index.NameSearchIndex;
+import com.example.rqchallenge.index.SalaryIndex;
+import com.example.rqchallenge.index.SortedEmployeeView;
+import com.example.rqchallenge.model.Employee;
+import com.example.rqchallenge.model.EmployeeField;
+import com.example.rqchallenge.model.EmployeePage;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Getter
+public class EmployeeSnapshot {
+
+    private final EmployeeTable table;
+    private final SalaryIndex salaryIndex;
+    private final long version;
+    private final long loadedAtNanos;
+
+    @Getter(AccessLevel.NONE)
+    private volatile NameSearchIndex nameSearchIndex;
+
+    @Getter(AccessLevel.NONE)
+    private final ReentrantLock nameSearchIndexLock = new ReentrantLock();
+
+    @Getter(AccessLevel.NONE)
+    private final Map<EmployeeField, SortedEmployeeView> sortedViews;
+
+    public EmployeeSnapshot(List<Employee> employees, long version, long loadedAtNanos) {
+        this(EmployeeTable.of(employees), version, loadedAtNanos);
+    }
+
+    public EmployeeSnapshot(EmployeeTable table, long version, long loadedAtNanos) {
+        this(table, SalaryIndex.build(table), version, loadedAtNanos);
+    }
+
+    private EmployeeSnapshot(EmployeeTable table, SalaryIndex salaryIndex, long version, long loadedAtNanos) {
+        this(table, salaryIndex, null, new ConcurrentHashMap<>(), version, loadedAtNanos);
+    }
+
+    private EmployeeSnapshot(EmployeeTable table, SalaryIndex salaryIndex, NameSearchIndex nameSearchIndex,
+                             Map<EmployeeField, SortedEmployeeView> sortedViews, long version, long loadedAtNanos) {
+        this.table = table;
+        this.salaryIndex = salaryIndex;
+        this.nameSearchIndex = nameSearchIndex;
+        this.sortedViews = sortedViews;
+        this.version = version;
+        this.loadedAtNanos = loadedAtNanos;
+    }
+
+    // Materializes each employee as it is read, callers wanting one row should use findById
+    public List<Employee> getEmployees() {
+        return table.rows();
+    }
+
+    // Built on first search, since most snapshots only ever serve the list and salary endpoints
+    public NameSearchIndex getNameSearchIndex() {
+        NameSearchIndex index = nameSearchIndex;
+        if (null == index) {
+            nameSearchIndexLock.lock();
+            try {
+                index = nameSearchIndex;
+                if (null == index) {
+                    index = NameSearchIndex.build(table);
+                    nameSearchIndex = index;
+                }
+            } finally {
+                nameSearchIndexLock.unlock();
+            }
+        }
+        return index;
+    }
+
+    public Optional<Employee> findById(String id) {
+        int row = rowOf(id);
+        return row < 0 ? Optional.empty() : Optional.of(table.row(row));
+    }
+
+    public SortedEmployeeView getSortedView(EmployeeField field) {
+        return sortedViews.computeIfAbsent(field, key -> SortedEmployeeView.build(table, key));
+    }
+
+    // Shared by the servlet and reactive services, unsorted pages are sublists of the roster in upstream order
+    public EmployeePage page(int page, int size, EmployeeField sortField, boolean descending) {
+        List<Employee> employees = getEmployees();
+        long from = (long) page * size;
+        long to = from + size;
+        List<Employee> pageContent;
+        if (null == sortField) {
+            pageContent = from >= employees.size() ? List.of() : employees.subList((int) from, (int) Math.min(to, employees.size()));
+        } else {
+            pageContent = getSortedView(sortField).slice(from, to, descending);
+        }
+        return EmployeePage.builder()
+                .employees(pageContent)
+                .page(page)
+                .size(size)
+                .totalElements(employees.size())
+                .build();
+    }
+
+    public boolean isOlderThan(Duration age, long nowNanos) {
+        return nowNanos - loadedAtNanos >= age.toNanos();
+    }
+
+    // Same roster confirmed by the upstream, so the version and every index built so far carry over
+    public EmployeeSnapshot refreshedAt(long loadedAtNanos) {
+        return new EmployeeSnapshot(table, salaryIndex, nameSearchIndex, sortedViews, version, loadedAtNanos);
+    }
+
+    /**
+     * Patches the roster with a delta. The salary index is patched too unless rows were updated in place, since an
+     * updated row keeps its position and the index can only add at the end; it is then rebuilt from the salary column.
+     */
+    public EmployeeSnapshot withChanges(EmployeeDelta delta, long version, long loadedAtNanos) {
+        EmployeeTable changed = table.withChanges(delta.getUpdated(), delta.getDeleted(), delta.getInserted());
+        SalaryIndex changedSalaryIndex = delta.getUpdated().isEmpty()
+                ? salaryIndex.withChanges(delta.getDeleted().stream().mapToObj(table::row).toList(), delta.getInserted(), changed)
+                : SalaryIndex.build(changed);
+        return new EmployeeSnapshot(changed, changedSalaryIndex, version, loadedAtNanos);
+    }
+
+    public EmployeeSnapshot withEmployee(Employee employee, long version) {
+        return new EmployeeSnapshot(table.withRow(employee), salaryIndex.withEmployee(employee), version, loadedAtNanos);
+    }
+
+    public EmployeeSnapshot withoutEmployee(String id, long version) {
+        int row = rowOf(id);
+        if (row < 0) {
+            return this;
+        }
+        EmployeeTable remaining = table.withoutRow(row);
+        return new EmployeeSnapshot(remaining, salaryIndex.withoutEmployee(table.row(row), remaining), version, loadedAtNanos);
+    }
+
+    private int rowOf(String id) {
+        try {
+            return table.rowOf(Long.parseLong(id));
+        } catch (NumberFormatException exception) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,371 @@
+package com.example.rqchallenge.cache;
+
+import com.example.rqchallenge.config.EmployeeCacheProperties;
+import com.example.rqchallenge.exception.ApiResponseException;
+import com.example.rqchallenge.exception.UpstreamUnavailableException;
+import com.example.rqchallenge.feign.EmployeeApiClient;
+import com.example.rqchallenge.feign.RequestCoalescer;
+import com.example.rqchallenge.feign.dto.EmployeeListApiResponse;
+import com.example.rqchallenge.index.EmployeeTable;
+import com.example.rqchallenge.mapper.IEmployeeMapper;
+import com.example.rqchallenge.model.Employee;
+import com.example.rqchallenge.resilience.EmployeeApiGuard;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Keeps the last employee list fetched from the dummy API in memory. Reads within the refresh interval are served
+ * as is, reads past it are served stale while a background refresh runs, and reads past the TTL block on a reload.
+ * While the upstream is cut off by {@link EmployeeApiGuard} the last good snapshot is served whatever its age.
+ * With persistence on, every snapshot loaded from the upstream is also saved through {@link EmployeeSnapshotStore},
+ * and a restart begins by serving the saved copy as stale while the first refresh runs.
+ * <p>
+ * Refreshes are diffed against the current snapshot by id and only what changed is applied, see
+ * {@link EmployeeDelta}. An unchanged roster keeps its version, so ETags handed out for it stay valid. Every new
+ * version is announced with an {@link EmployeeSnapshotChangedEvent}, published on the thread that installed it once
+ * it has released the lock, so listeners racing with another change should order events by version.
+ */
+@Slf4j
+@Component
+@Profile("!reactive")
+public class EmployeeSnapshotCache {
+
+    private final EmployeeApiClient employeeApiClient;
+    private final RequestCoalescer requestCoalescer;
+    private final EmployeeApiGuard employeeApiGuard;
+    private final IEmployeeMapper employeeMapper;
+    private final EmployeeCacheProperties cacheProperties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ScheduledExecutorService refreshExecutor;
+    private final EmployeeSnapshotStore snapshotStore;
+    private final Counter hits;
+    private final Counter staleHits;
+    private final Counter misses;
+    private final Counter fallbacks;
+    private final Counter unchangedSyncs;
+    private final Counter deltaSyncs;
+    private final Counter reloadSyncs;
+
+    private final AtomicBoolean refreshInFlight = new AtomicBoolean();
+    // Only the newest snapshot waiting to be saved is kept, older ones are superseded before they are written
+    private final AtomicReference<EmployeeSnapshot> pendingSave = new AtomicReference<>();
+    private final AtomicLong versions = new AtomicLong();
+    // Versions restart with the process, so they are qualified by when this cache was created
+    private final String incarnation = Long.toString(System.currentTimeMillis(), 36);
+    // Not a monitor, so a reload blocked on the upstream does not pin a virtual thread's carrier
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private volatile EmployeeSnapshot snapshot;
+    private long generation;
+
+    public EmployeeSnapshotCache(EmployeeApiClient employeeApiClient, RequestCoalescer requestCoalescer,
+                                 EmployeeApiGuard employeeApiGuard, IEmployeeMapper employeeMapper,
+                                 EmployeeCacheProperties cacheProperties, MeterRegistry meterRegistry,
+                                 ApplicationEventPublisher eventPublisher) {
+        this.employeeApiClient = employeeApiClient;
+        this.requestCoalescer = requestCoalescer;
+        this.employeeApiGuard = employeeApiGuard;
+        this.employeeMapper = employeeMapper;
+        this.cacheProperties = cacheProperties;
+        this.eventPublisher = eventPublisher;
+        this.hits = readCounter(meterRegistry, "hit");
+        this.staleHits = readCounter(meterRegistry, "stale");
+        this.misses = readCounter(meterRegistry, "miss");
+        this.fallbacks = readCounter(meterRegistry, "fallback");
+        this.unchangedSyncs = syncCounter(meterRegistry, "unchanged");
+        this.deltaSyncs = syncCounter(meterRegistry, "delta");
+        this.reloadSyncs = syncCounter(meterRegistry, "reload");
+        this.refreshExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "employee-snapshot-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        EmployeeCacheProperties.Persistence persistence = cacheProperties.getPersistence();
+        this.snapshotStore = cacheProperties.isEnabled() && persistence.isEnabled()
+                ? new EmployeeSnapshotStore(persistence.getPath()) : null;
+        if (null != snapshotStore) {
+            restore(persistence);
+        }
+        if (cacheProperties.isEnabled()) {
+            long intervalMillis = cacheProperties.getRefreshInterval().toMillis();
+            refreshExecutor.scheduleWithFixedDelay(this::scheduledRefresh, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public EmployeeSnapshot getSnapshot() {
+        if (!cacheProperties.isEnabled()) {
+            misses.increment();
+            try {
+                EmployeeSnapshot loaded = new EmployeeSnapshot(fetchEmployees(), versions.incrementAndGet(), System.nanoTime());
+                snapshot = loaded;
+                return loaded;
+            } catch (UpstreamUnavailableException exception) {
+                return fallback(snapshot, exception);
+            }
+        }
+        EmployeeSnapshot current = snapshot;
+        long now = System.nanoTime();
+        if (null == current || current.isOlderThan(cacheProperties.getTtl(), now)) {
+            misses.increment();
+            try {
+                return reload();
+            } catch (UpstreamUnavailableException exception) {
+                return fallback(current, exception);
+            }
+        }
+        if (current.isOlderThan(cacheProperties.getRefreshInterval(), now)) {
+            staleHits.increment();
+            refreshAsync();
+        } else {
+            hits.increment();
+        }
+        return current;
+    }
+
+    // The cached snapshot if it is still within its TTL, without loading or refreshing anything
+    public EmployeeSnapshot getCachedSnapshot() {
+        EmployeeSnapshot current = freshSnapshot();
+        (null == current ? misses : hits).increment();
+        return current;
+    }
+
+    // Identifies the snapshot getCachedSnapshot would return, null when it would return none
+    public String getCachedSnapshotVersion() {
+        EmployeeSnapshot current = freshSnapshot();
+        return null == current ? null : incarnation + '.' + current.getVersion();
+    }
+
+    // The last snapshot loaded from the upstream whatever its age, null if none was ever loaded
+    public EmployeeSnapshot getLastGoodSnapshot() {
+        return snapshot;
+    }
+
+    public void addEmployee(Employee employee) {
+        EmployeeSnapshotChangedEvent event = null;
+        lock.lock();
+        try {
+            generation++;
+            if (null != snapshot && null != employee) {
+                if (null == employee.getId()) {
+                    // Cannot be indexed, so the snapshot is expired and the next read reloads it with the new employee
+                    snapshot = snapshot.refreshedAt(System.nanoTime() - cacheProperties.getTtl().toNanos());
+                } else {
+                    snapshot = snapshot.withEmployee(employee, versions.incrementAndGet());
+                    event = new EmployeeSnapshotChangedEvent(snapshot.getVersion(), false, List.of(employee.getId()),
+                            List.of(), List.of());
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        publish(event);
+    }
+
+    public void removeEmployee(String id) {
+        EmployeeSnapshotChangedEvent event = null;
+        lock.lock();
+        try {
+            generation++;
+            EmployeeSnapshot updated = null == snapshot ? null : snapshot.withoutEmployee(id, versions.incrementAndGet());
+            if (updated != snapshot) {
+                snapshot = updated;
+                event = new EmployeeSnapshotChangedEvent(snapshot.getVersion(), false, List.of(), List.of(),
+                        List.of(Long.parseLong(id)));
+            }
+        } finally {
+            lock.unlock();
+        }
+        publish(event);
+    }
+
+    private EmployeeSnapshot freshSnapshot() {
+        EmployeeSnapshot current = snapshot;
+        if (!cacheProperties.isEnabled() || null == current || current.isOlderThan(cacheProperties.getTtl(), System.nanoTime())) {
+            return null;
+        }
+        return current;
+    }
+
+    private EmployeeSnapshot reload() {
+        Sync sync;
+        lock.lock();
+        try {
+            EmployeeSnapshot current = snapshot;
+            if (null != current && !current.isOlderThan(cacheProperties.getTtl(), System.nanoTime())) {
+                return current;
+            }
+            sync = reconcile(current, fetchEmployees());
+            snapshot = sync.snapshot();
+            saveAsync(snapshot);
+        } finally {
+            lock.unlock();
+        }
+        publish(sync.event());
+        return sync.snapshot();
+    }
+
+    private EmployeeSnapshot fallback(EmployeeSnapshot lastGood, UpstreamUnavailableException exception) {
+        if (null == lastGood) {
+            throw exception;
+        }
+        fallbacks.increment();
+        log.warn("Serving employee snapshot version {} while the dummy API is unavailable: {}", lastGood.getVersion(),
+                exception.getMessage());
+        return lastGood;
+    }
+
+    private void refreshAsync() {
+        if (refreshInFlight.compareAndSet(false, true)) {
+            refreshExecutor.execute(() -> {
+                try {
+                    refresh();
+                } finally {
+                    refreshInFlight.set(false);
+                }
+            });
+        }
+    }
+
+    private void scheduledRefresh() {
+        if (null != snapshot) {
+            refresh();
+        }
+    }
+
+    private void refresh() {
+        long expectedGeneration;
+        lock.lock();
+        try {
+            expectedGeneration = generation;
+        } finally {
+            lock.unlock();
+        }
+        try {
+            List<Employee> employees = fetchEmployees();
+            Sync sync = null;
+            lock.lock();
+            try {
+                // A create or delete was applied while we were fetching, so the result may not include it
+                if (expectedGeneration == generation) {
+                    sync = reconcile(snapshot, employees);
+                    snapshot = sync.snapshot();
+                    saveAsync(snapshot);
+                }
+            } finally {
+                lock.unlock();
+            }
+            if (null != sync) {
+                publish(sync.event());
+            }
+        } catch (Exception exception) {
+            log.warn("Background refresh of employee snapshot failed: {}", exception.getMessage());
+        }
+    }
+
+    // Called with the lock held, the event is left for the caller to publish once it has released it
+    private Sync reconcile(EmployeeSnapshot current, List<Employee> employees) {
+        long now = System.nanoTime();
+        EmployeeDelta delta = null;
+        if (null != current) {
+            int maxChanges = (int) (Math.max(current.getTable().size(), employees.size()) * cacheProperties.getMaxDeltaRatio());
+            delta = EmployeeDelta.between(current.getTable(), employees, maxChanges);
+        }
+        if (null == delta) {
+            reloadSyncs.increment();
+            EmployeeSnapshot loaded = new EmployeeSnapshot(employees, versions.incrementAndGet(), now);
+            return new Sync(loaded, EmployeeSnapshotChangedEvent.reload(loaded.getVersion()));
+        }
+        if (delta.isEmpty()) {
+            unchangedSyncs.increment();
+            return new Sync(current.refreshedAt(now), null);
+        }
+        deltaSyncs.increment();
+        EmployeeSnapshot changed = current.withChanges(delta, versions.incrementAndGet(), now);
+        log.debug("Applied {} upstream changes to employee snapshot version {}", delta.size(), changed.getVersion());
+        return new Sync(changed, EmployeeSnapshotChangedEvent.of(delta, current.getTable(), changed.getVersion()));
+    }
+
+    private void publish(EmployeeSnapshotChangedEvent event) {
+        if (null != event) {
+            eventPublisher.publishEvent(event);
+        }
+    }
+
+    // Backdated by the refresh interval so it is served as stale and the first read kicks off a refresh
+    private void restore(EmployeeCacheProperties.Persistence persistence) {
+        EmployeeTable table = snapshotStore.load(persistence.getMaxAge());
+        if (null == table) {
+            return;
+        }
+        long loadedAtNanos = System.nanoTime() - cacheProperties.getRefreshInterval().toNanos();
+        snapshot = new EmployeeSnapshot(table, versions.incrementAndGet(), loadedAtNanos);
+        log.info("Restored {} employees from {}", table.size(), persistence.getPath());
+        refreshAsync();
+    }
+
+    private void saveAsync(EmployeeSnapshot saved) {
+        if (null == snapshotStore || null != pendingSave.getAndSet(saved)) {
+            return;
+        }
+        refreshExecutor.execute(() -> save(pendingSave.getAndSet(null)));
+    }
+
+    private void save(EmployeeSnapshot saved) {
+        try {
+            snapshotStore.save(saved.getTable());
+        } catch (IOException | RuntimeException exception) {
+            log.warn("Failed to persist employee snapshot version {}: {}", saved.getVersion(), exception.toString());
+        }
+    }
+
+    private static Counter readCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("employee.cache.reads")
+                .description("Snapshot reads by how they were served")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static Counter syncCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("employee.cache.syncs")
+                .description("Snapshot loads from the upstream by how they were applied")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private List<Employee> fetchEmployees() {
+        EmployeeListApiResponse apiResponse = requestCoalescer.execute("getAllEmployees", "",
+                () -> employeeApiGuard.execute("getAllEmployees", employeeApiClient::getAllEmployees));
+        if (!apiResponse.isSuccessResponse()) {
+            throw new ApiResponseException("Received Failure response from dummy API");
+        }
+        return employeeMapper.mapToModelList(apiResponse.getData(), Employee.class);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+        EmployeeSnapshot unsaved = pendingSave.getAndSet(null);
+        if (null != unsaved) {
+            save(unsaved);
+        }
+    }
+
+    // A snapshot reconciled with the upstream, and the change to announce for it, null when there was none
+    private record Sync(EmployeeSnapshot snapshot, EmployeeSnapshotChangedEvent event) {
+    }
+}
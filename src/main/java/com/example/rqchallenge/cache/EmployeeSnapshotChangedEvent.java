@@ -0,0 +1,40 @@
+package com.example.rqchallenge.cache;
+
+import com.example.rqchallenge.index.EmployeeTable;
+import com.example.rqchallenge.model.Employee;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Published by {@link EmployeeSnapshotCache} whenever a new snapshot version is installed. A reload replaces the
+ * whole roster and carries no ids; every other change lists the ids it inserted, updated and deleted.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class EmployeeSnapshotChangedEvent {
+
+    private final long version;
+    private final boolean reload;
+    private final List<Long> insertedIds;
+    private final List<Long> updatedIds;
+    private final List<Long> deletedIds;
+
+    public static EmployeeSnapshotChangedEvent reload(long version) {
+        return new EmployeeSnapshotChangedEvent(version, true, List.of(), List.of(), List.of());
+    }
+
+    public static EmployeeSnapshotChangedEvent of(EmployeeDelta delta, EmployeeTable before, long version) {
+        List<Long> deletedIds = delta.getDeleted().stream().mapToObj(row -> before.row(row).getId()).toList();
+        return new EmployeeSnapshotChangedEvent(version, false, ids(delta.getInserted()), ids(delta.getUpdated().values()),
+                deletedIds);
+    }
+
+    private static List<Long> ids(Collection<Employee> employees) {
+        return employees.stream().map(Employee::getId).toList();
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.rqchallenge.cache;
+
+import com.example.rqchallenge.index.EmployeeTable;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+
+/**
+ * Keeps a copy of the last good {@link EmployeeTable} in a memory-mapped file so a restarted service can serve reads
+ * before its first upstream call. The file is a short header followed by the table's own binary layout, see
+ * {@link EmployeeTable#writeTo}. It is written to a sibling file and moved into place, so a crash mid-write leaves
+ * the previous copy intact.
+ */
+@Slf4j
+public class EmployeeSnapshotStore {
+
+    private static final int MAGIC = 0x454D5053;
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_SIZE = 2 * Integer.BYTES + Long.BYTES;
+
+    private final Path path;
+
+    public EmployeeSnapshotStore(Path path) {
+        this.path = path;
+    }
+
+    public void save(EmployeeTable table) throws IOException {
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        long size = HEADER_SIZE + table.serializedSize();
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            buffer.putInt(MAGIC).putInt(FORMAT_VERSION).putLong(System.currentTimeMillis());
+            table.writeTo(buffer);
+            buffer.force();
+        }
+        Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    // Null when there is no usable copy, a missing, stale or unreadable file is never a reason to fail startup
+    public EmployeeTable load(Duration maxAge) {
+        if (!Files.isRegularFile(path)) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION) {
+                log.warn("Ignoring persisted employee snapshot {}, it is not in a known format", path);
+                return null;
+            }
+            long age = System.currentTimeMillis() - buffer.getLong();
+            if (age > maxAge.toMillis()) {
+                log.info("Ignoring persisted employee snapshot {}, it is {}s old", path, age / 1000);
+                return null;
+            }
+            return EmployeeTable.readFrom(buffer);
+        } catch (IOException | RuntimeException exception) {
+            log.warn("Ignoring persisted employee snapshot {}: {}", path, exception.toString());
+            return null;
+        }
+    }
+}
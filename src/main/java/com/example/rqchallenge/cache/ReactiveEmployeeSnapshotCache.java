@@ -0,0 +1,149 @@
+package com.example.rqchallenge.cache;
+
+import com.example.rqchallenge.config.EmployeeCacheProperties;
+import com.example.rqchallenge.exception.ApiResponseException;
+import com.example.rqchallenge.mapper.IEmployeeMapper;
+import com.example.rqchallenge.model.Employee;
+import com.example.rqchallenge.webclient.ReactiveEmployeeApiClient;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Reactive profile counterpart of {@link EmployeeSnapshotCache}, with the same refresh interval and TTL semantics.
+ * Concurrent loads share one upstream call, and no caller thread ever waits on it.
+ */
+@Slf4j
+@Component
+@Profile("reactive")
+public class ReactiveEmployeeSnapshotCache {
+
+    private final ReactiveEmployeeApiClient employeeApiClient;
+    private final IEmployeeMapper employeeMapper;
+    private final EmployeeCacheProperties cacheProperties;
+    private final Counter hits;
+    private final Counter staleHits;
+    private final Counter misses;
+
+    private final AtomicReference<Mono<EmployeeSnapshot>> inFlight = new AtomicReference<>();
+    private final AtomicLong versions = new AtomicLong();
+    private final Object lock = new Object();
+
+    private volatile EmployeeSnapshot snapshot;
+    private long generation;
+
+    public ReactiveEmployeeSnapshotCache(ReactiveEmployeeApiClient employeeApiClient, IEmployeeMapper employeeMapper,
+                                         EmployeeCacheProperties cacheProperties, MeterRegistry meterRegistry) {
+        this.employeeApiClient = employeeApiClient;
+        this.employeeMapper = employeeMapper;
+        this.cacheProperties = cacheProperties;
+        this.hits = readCounter(meterRegistry, "hit");
+        this.staleHits = readCounter(meterRegistry, "stale");
+        this.misses = readCounter(meterRegistry, "miss");
+    }
+
+    public Mono<EmployeeSnapshot> getSnapshot() {
+        if (!cacheProperties.isEnabled()) {
+            misses.increment();
+            return fetchSnapshot();
+        }
+        EmployeeSnapshot current = snapshot;
+        long now = System.nanoTime();
+        if (null == current || current.isOlderThan(cacheProperties.getTtl(), now)) {
+            misses.increment();
+            return reload();
+        }
+        if (current.isOlderThan(cacheProperties.getRefreshInterval(), now)) {
+            staleHits.increment();
+            reload().subscribe(loaded -> { }, exception ->
+                    log.warn("Background refresh of employee snapshot failed: {}", exception.getMessage()));
+        } else {
+            hits.increment();
+        }
+        return Mono.just(current);
+    }
+
+    // The cached snapshot if it is still within its TTL, without loading or refreshing anything
+    public EmployeeSnapshot getCachedSnapshot() {
+        EmployeeSnapshot current = snapshot;
+        if (!cacheProperties.isEnabled() || null == current || current.isOlderThan(cacheProperties.getTtl(), System.nanoTime())) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return current;
+    }
+
+    public void addEmployee(Employee employee) {
+        synchronized (lock) {
+            generation++;
+            if (null != snapshot && null != employee) {
+                snapshot = snapshot.withEmployee(employee, versions.incrementAndGet());
+            }
+        }
+    }
+
+    public void removeEmployee(String id) {
+        synchronized (lock) {
+            generation++;
+            if (null != snapshot) {
+                snapshot = snapshot.withoutEmployee(id, versions.incrementAndGet());
+            }
+        }
+    }
+
+    private Mono<EmployeeSnapshot> reload() {
+        Sinks.One<EmployeeSnapshot> sink = Sinks.one();
+        Mono<EmployeeSnapshot> flight = sink.asMono();
+        while (!inFlight.compareAndSet(null, flight)) {
+            Mono<EmployeeSnapshot> existing = inFlight.get();
+            if (null != existing) {
+                return existing;
+            }
+        }
+        long expectedGeneration;
+        synchronized (lock) {
+            expectedGeneration = generation;
+        }
+        fetchSnapshot()
+                .map(loaded -> install(loaded, expectedGeneration))
+                .doFinally(signal -> inFlight.compareAndSet(flight, null))
+                .subscribe(sink::tryEmitValue, sink::tryEmitError);
+        return flight;
+    }
+
+    // A create or delete applied while the load was running may be missing from it, so the load is not kept
+    private EmployeeSnapshot install(EmployeeSnapshot loaded, long expectedGeneration) {
+        synchronized (lock) {
+            if (expectedGeneration == generation || null == snapshot) {
+                snapshot = loaded;
+                return loaded;
+            }
+            return snapshot;
+        }
+    }
+
+    private static Counter readCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("employee.cache.reads")
+                .description("Snapshot reads by how they were served")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private Mono<EmployeeSnapshot> fetchSnapshot() {
+        return employeeApiClient.getAllEmployees().map(apiResponse -> {
+            if (!apiResponse.isSuccessResponse()) {
+                throw new ApiResponseException("Received Failure response from dummy API");
+            }
+            return new EmployeeSnapshot(employeeMapper.mapToModelList(apiResponse.getData(), Employee.class),
+                    versions.incrementAndGet(), System.nanoTime());
+        });
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.rqchallenge.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "employee.admission")
+public class EmployeeAdmissionProperties {
+
+    private boolean enabled = true;
+
+    private Concurrency concurrency = new Concurrency();
+
+    private ClientRateLimit clientRateLimit = new ClientRateLimit();
+
+    @Getter
+    @Setter
+    public static class Concurrency {
+        private int initialLimit = 50;
+        private int minLimit = 8;
+        private int maxLimit = 400;
+
+        // Requests served synchronously slower than this count as a sign of overload
+        private Duration latencyThreshold = Duration.ofSeconds(2);
+
+        private double backoffRatio = 0.9d;
+    }
+
+    @Getter
+    @Setter
+    public static class ClientRateLimit {
+        // Off unless callers can be told apart, behind a proxy that takes server.forward-headers-strategy
+        private boolean enabled = false;
+        private double permitsPerSecond = 20d;
+        private int burst = 40;
+
+        // Clients sending no such header are keyed by remote address
+        private String header = "X-Client-Id";
+
+        // Least recently seen clients are forgotten beyond this
+        private int maxClients = 10_000;
+    }
+}
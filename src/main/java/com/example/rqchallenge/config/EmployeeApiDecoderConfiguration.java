@@ -0,0 +1,30 @@
+package com.example.rqchallenge.config;
+
+import com.example.rqchallenge.feign.EmployeeResponseDecoder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.codec.Decoder;
+import feign.optionals.OptionalDecoder;
+import org.springframework.beans.factory.ObjectFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.cloud.openfeign.support.HttpMessageConverterCustomizer;
+import org.springframework.cloud.openfeign.support.ResponseEntityDecoder;
+import org.springframework.cloud.openfeign.support.SpringDecoder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Decodes employee responses of {@link com.example.rqchallenge.feign.EmployeeApiClient} with
+ * {@link EmployeeResponseDecoder}. Anything else goes through the decoder chain Spring Cloud OpenFeign would have
+ * set up without this bean.
+ */
+@Configuration(proxyBeanMethods = false)
+public class EmployeeApiDecoderConfiguration {
+
+    @Bean
+    public Decoder employeeApiDecoder(ObjectMapper objectMapper, ObjectFactory<HttpMessageConverters> messageConverters,
+                                      ObjectProvider<HttpMessageConverterCustomizer> messageConverterCustomizers) {
+        return new EmployeeResponseDecoder(objectMapper.getFactory(), new OptionalDecoder(new ResponseEntityDecoder(
+                new SpringDecoder(messageConverters, messageConverterCustomizers))));
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.rqchallenge.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "employee.api.resilience")
+public class EmployeeApiResilienceProperties {
+
+    private CircuitBreakerSettings circuitBreaker = new CircuitBreakerSettings();
+
+    private BulkheadSettings bulkhead = new BulkheadSettings(10, Duration.ofMillis(500));
+
+    // Keyed by EmployeeApiClient method name, unset values fall back to the bulkhead above
+    private Map<String, BulkheadSettings> bulkheads = new HashMap<>();
+
+    private RateLimiterSettings rateLimiter = new RateLimiterSettings(true, 10d, 1d, 5, Duration.ofSeconds(1));
+
+    // Keyed by EmployeeApiClient method name, unset values fall back to the rate limiter above
+    private Map<String, RateLimiterSettings> rateLimiters = new HashMap<>();
+
+    public BulkheadSettings resolveBulkhead(String operation) {
+        BulkheadSettings override = bulkheads.getOrDefault(operation, new BulkheadSettings());
+        return new BulkheadSettings(
+                null != override.getMaxConcurrentCalls() ? override.getMaxConcurrentCalls() : bulkhead.getMaxConcurrentCalls(),
+                null != override.getMaxWait() ? override.getMaxWait() : bulkhead.getMaxWait());
+    }
+
+    public RateLimiterSettings resolveRateLimiter(String operation) {
+        RateLimiterSettings override = rateLimiters.getOrDefault(operation, new RateLimiterSettings());
+        return new RateLimiterSettings(
+                null != override.getEnabled() ? override.getEnabled() : rateLimiter.getEnabled(),
+                null != override.getPermitsPerSecond() ? override.getPermitsPerSecond() : rateLimiter.getPermitsPerSecond(),
+                null != override.getMinPermitsPerSecond() ? override.getMinPermitsPerSecond() : rateLimiter.getMinPermitsPerSecond(),
+                null != override.getBurst() ? override.getBurst() : rateLimiter.getBurst(),
+                null != override.getMaxWait() ? override.getMaxWait() : rateLimiter.getMaxWait());
+    }
+
+    @Getter
+    @Setter
+    public static class CircuitBreakerSettings {
+        private boolean enabled = true;
+
+        // Percentages of the calls in the sliding window
+        private float failureRateThreshold = 50f;
+        private float slowCallRateThreshold = 80f;
+
+        private Duration slowCallDuration = Duration.ofSeconds(3);
+        private int slidingWindowSize = 20;
+        private int minimumCalls = 10;
+        private Duration waitInOpenState = Duration.ofSeconds(30);
+        private int permittedCallsInHalfOpenState = 3;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BulkheadSettings {
+        private Integer maxConcurrentCalls;
+        private Duration maxWait;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RateLimiterSettings {
+        private Boolean enabled;
+        // Starting rate, and the most the adaptive rate recovers to after throttling
+        private Double permitsPerSecond;
+        private Double minPermitsPerSecond;
+        // Calls an idle operation may send back to back, 1 spaces every call out evenly
+        private Integer burst;
+        private Duration maxWait;
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.rqchallenge.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "employee.api.retry")
+public class EmployeeApiRetryProperties {
+
+    private Policy defaults = new Policy(3, Duration.ofMillis(200), Duration.ofSeconds(5), 2.0d, true);
+
+    // Keyed by EmployeeApiClient method name, unset values fall back to the defaults
+    private Map<String, Policy> methods = new HashMap<>(Map.of("createEmployee", new Policy(null, null, null, null, false)));
+
+    // Retries may use at most this share of upstream calls, on top of the per second floor below
+    private double budgetRatio = 0.2d;
+
+    private double minRetriesPerSecond = 5d;
+
+    public Policy resolve(String method) {
+        Policy override = methods.getOrDefault(method, new Policy());
+        return new Policy(
+                null != override.getMaxAttempts() ? override.getMaxAttempts() : defaults.getMaxAttempts(),
+                null != override.getInitialBackoff() ? override.getInitialBackoff() : defaults.getInitialBackoff(),
+                null != override.getMaxBackoff() ? override.getMaxBackoff() : defaults.getMaxBackoff(),
+                null != override.getMultiplier() ? override.getMultiplier() : defaults.getMultiplier(),
+                null != override.getIdempotent() ? override.getIdempotent() : defaults.getIdempotent());
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Policy {
+        private Integer maxAttempts;
+        private Duration initialBackoff;
+        private Duration maxBackoff;
+        private Double multiplier;
+        private Boolean idempotent;
+    }
+}
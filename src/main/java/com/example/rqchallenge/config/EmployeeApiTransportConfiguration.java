@@ -0,0 +1,67 @@
+package com.example.rqchallenge.config;
+
+import com.example.rqchallenge.feign.EmployeeApiRateLimitingClient;
+import com.example.rqchallenge.feign.EmployeeApiTimeoutClient;
+import com.example.rqchallenge.resilience.EmployeeApiRateLimiters;
+import feign.Client;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.okhttp3.OkHttpConnectionPoolMetrics;
+import okhttp3.ConnectionPool;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs {@link com.example.rqchallenge.feign.EmployeeApiClient} on a pooled OkHttp client instead of Feign's default
+ * {@code HttpURLConnection}. Connections are kept alive and reused across calls, HTTP/2 is offered on https, and
+ * responses are requested gzipped and unzipped transparently. Timeouts are applied per client method, see
+ * {@link EmployeeApiTimeoutClient}, and every attempt is paced by {@link EmployeeApiRateLimitingClient}.
+ */
+@Configuration(proxyBeanMethods = false)
+public class EmployeeApiTransportConfiguration {
+
+    @Bean
+    public ConnectionPool employeeApiConnectionPool(EmployeeApiTransportProperties transportProperties) {
+        return new ConnectionPool(transportProperties.getMaxIdleConnections(),
+                transportProperties.getKeepAlive().toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Bean
+    public OkHttpClient employeeApiHttpClient(ConnectionPool employeeApiConnectionPool,
+                                              EmployeeApiTransportProperties transportProperties) {
+        EmployeeApiTransportProperties.Timeouts defaults = transportProperties.getDefaults();
+        OkHttpClient.Builder builder = new OkHttpClient.Builder()
+                .connectionPool(employeeApiConnectionPool)
+                .connectTimeout(defaults.getConnectTimeout().toMillis(), TimeUnit.MILLISECONDS)
+                .readTimeout(defaults.getReadTimeout().toMillis(), TimeUnit.MILLISECONDS)
+                // A pooled connection the upstream has since closed fails before the request reaches it; OkHttp
+                // retries that on a fresh connection rather than spending an attempt of EmployeeApiRetryInterceptor
+                .retryOnConnectionFailure(true)
+                .protocols(transportProperties.isHttp2() ? List.of(Protocol.HTTP_2, Protocol.HTTP_1_1) : List.of(Protocol.HTTP_1_1));
+        if (!transportProperties.isGzip()) {
+            // OkHttp only asks for gzip when the request names no encoding of its own
+            builder.addInterceptor(chain -> chain.proceed(chain.request().newBuilder().header("Accept-Encoding", "identity").build()));
+        }
+        return builder.build();
+    }
+
+    @Bean
+    public Client employeeApiFeignClient(OkHttpClient employeeApiHttpClient, EmployeeApiTransportProperties transportProperties,
+                                         EmployeeApiRateLimiters rateLimiters) {
+        return new EmployeeApiRateLimitingClient(
+                new EmployeeApiTimeoutClient(new feign.okhttp.OkHttpClient(employeeApiHttpClient), transportProperties),
+                rateLimiters);
+    }
+
+    @Bean
+    public MeterBinder employeeApiConnectionPoolMetrics(ConnectionPool employeeApiConnectionPool,
+                                                        EmployeeApiTransportProperties transportProperties) {
+        return new OkHttpConnectionPoolMetrics(employeeApiConnectionPool, "employee.api.connections",
+                Tags.of("client", "employeeApiClient"), transportProperties.getMaxIdleConnections());
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.rqchallenge.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "employee.api.transport")
+public class EmployeeApiTransportProperties {
+
+    private Timeouts defaults = new Timeouts(Duration.ofSeconds(2), Duration.ofSeconds(10));
+
+    // Keyed by EmployeeApiClient method name, unset values fall back to the defaults
+    private Map<String, Timeouts> methods = new HashMap<>(Map.of(
+            "getAllEmployees", new Timeouts(null, Duration.ofSeconds(30)),
+            "streamAllEmployees", new Timeouts(null, Duration.ofSeconds(30))));
+
+    private int maxIdleConnections = 20;
+
+    private Duration keepAlive = Duration.ofMinutes(5);
+
+    // Negotiated through ALPN, so it only applies to https base urls
+    private boolean http2 = true;
+
+    private boolean gzip = true;
+
+    public Timeouts resolve(String method) {
+        Timeouts override = methods.getOrDefault(method, new Timeouts());
+        return new Timeouts(
+                null != override.getConnectTimeout() ? override.getConnectTimeout() : defaults.getConnectTimeout(),
+                null != override.getReadTimeout() ? override.getReadTimeout() : defaults.getReadTimeout());
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Timeouts {
+        private Duration connectTimeout;
+        private Duration readTimeout;
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.rqchallenge.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "employee.bulk")
+public class EmployeeBulkProperties {
+
+    // Keep below the createEmployee and deleteEmployeeById bulkheads, or bulk items get rejected
+    private int parallelism = 4;
+
+    // Upstream calls started per second across all running batches, 0 for no limit. Also the rate the outbound
+    // rate limiters of createEmployee and deleteEmployeeById start at, unless given one of their own
+    private double maxRequestsPerSecond = 50d;
+}
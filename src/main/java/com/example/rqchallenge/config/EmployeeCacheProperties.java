@@ -0,0 +1,37 @@
+package com.example.rqchallenge.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "employee.cache")
+public class EmployeeCacheProperties {
+
+    private boolean enabled = true;
+
+    private Duration refreshInterval = Duration.ofSeconds(30);
+
+    private Duration ttl = Duration.ofMinutes(5);
+
+    // Share of the roster a refresh may change and still be patched into the snapshot rather than reloaded
+    private double maxDeltaRatio = 0.25;
+
+    private Persistence persistence = new Persistence();
+
+    @Getter
+    @Setter
+    public static class Persistence {
+
+        private boolean enabled = false;
+
+        private Path path = Path.of("employee-snapshot.bin");
+
+        // Older snapshots are ignored on startup rather than served stale
+        private Duration maxAge = Duration.ofHours(1);
+    }
+}
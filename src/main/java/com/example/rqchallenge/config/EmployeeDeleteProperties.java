@@ -0,0 +1,20 @@
+package com.example.rqchallenge.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "employee.delete")
+public class EmployeeDeleteProperties {
+
+    private NameResolution nameResolution = NameResolution.SNAPSHOT;
+
+    public enum NameResolution {
+        // From the cached snapshot, or looked up before the delete when the snapshot does not have it
+        SNAPSHOT,
+        // Not resolved at all, deletes answer with the id
+        NONE
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.rqchallenge.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "employee.http-cache")
+public class EmployeeHttpCacheProperties {
+
+    // Clients may keep responses but must revalidate them, which the ETag makes cheap
+    private String cacheControl = "no-cache";
+
+    // Keyed by EmployeeController method name, endpoints without an entry use the directive above
+    private Map<String, String> endpoints = new HashMap<>();
+
+    public String resolveCacheControl(String endpoint) {
+        return endpoints.getOrDefault(endpoint, cacheControl);
+    }
+}
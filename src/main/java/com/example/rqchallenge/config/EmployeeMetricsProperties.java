@@ -0,0 +1,19 @@
+package com.example.rqchallenge.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "employee.metrics")
+public class EmployeeMetricsProperties {
+
+    // Share of calls under the slow call threshold that still get a log line
+    private double logSampleRate = 0.01;
+    private Duration slowCallThreshold = Duration.ofSeconds(1);
+    // Repeats of the same failure in the same operation within this interval are counted instead of logged
+    private Duration errorLogInterval = Duration.ofSeconds(10);
+}
@@ -0,0 +1,31 @@
+package com.example.rqchallenge.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Lets the employee endpoints answer in Smile or CBOR when {@code Accept} asks for it. Spring MVC would register both
+ * converters on its own once the dataformats are on the classpath, but with mappers of its own defaults; these are
+ * built from the same builder as the JSON mapper, so every format encodes the model alike. JSON stays the default,
+ * its converter comes first.
+ */
+@Configuration(proxyBeanMethods = false)
+@Profile("!reactive")
+public class EmployeeWireFormatConfiguration {
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder jacksonObjectMapperBuilder) {
+        return new MappingJackson2SmileHttpMessageConverter(jacksonObjectMapperBuilder.factory(new SmileFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder jacksonObjectMapperBuilder) {
+        return new MappingJackson2CborHttpMessageConverter(jacksonObjectMapperBuilder.factory(new CBORFactory()).build());
+    }
+}
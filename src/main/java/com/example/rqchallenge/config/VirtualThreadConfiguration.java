@@ -0,0 +1,52 @@
+package com.example.rqchallenge.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Opt-in mode that runs Tomcat request handling, and with it the blocking Feign calls and retry sleeps made on the
+ * request thread, on virtual threads. Streaming responses run on the same executor through MVC async support.
+ * Virtual threads need JDK 21 while the build still targets 17, so the executor is looked up reflectively and
+ * startup fails when the mode is enabled on an older JDK.
+ * <p>
+ * Off by default: the embedded Tomcat 9 holds a monitor on the connection for the whole request, which pins each
+ * virtual thread to its carrier while it waits on the upstream. Only as many requests as there are carriers then
+ * make progress, see BENCHMARKS.md for the measurements.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "employee.virtual-threads", name = "enabled", havingValue = "true")
+public class VirtualThreadConfiguration {
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService virtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException exception) {
+            throw new IllegalStateException("employee.virtual-threads.enabled=true requires Java 21 or newer, running on Java "
+                    + Runtime.version().feature() + ". Run on Java 21 or leave the property unset", exception);
+        }
+    }
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer(ExecutorService virtualThreadExecutor) {
+        return protocolHandler -> protocolHandler.setExecutor(virtualThreadExecutor);
+    }
+
+    @Bean
+    public WebMvcConfigurer virtualThreadAsyncConfigurer(ExecutorService virtualThreadExecutor) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+                configurer.setTaskExecutor(new TaskExecutorAdapter(virtualThreadExecutor));
+            }
+        };
+    }
+}
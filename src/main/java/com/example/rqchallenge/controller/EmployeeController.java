@@ -1,22 +1,41 @@
 package com.example.rqchallenge.controller;
 
+import com.example.rqchallenge.config.EmployeeHttpCacheProperties;
+import com.example.rqchallenge.model.BulkItemResult;
 import com.example.rqchallenge.model.CreateEmployeeRequest;
 import com.example.rqchallenge.model.Employee;
+import com.example.rqchallenge.model.EmployeePage;
+import com.example.rqchallenge.model.NameSearchMode;
 import com.example.rqchallenge.service.IEmployeeService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 
 @Slf4j
 @RestController
+@Profile("!reactive")
 @RequestMapping("/api/v1/employee")
 @Validated
 public class EmployeeController implements IEmployeeController{
@@ -24,20 +43,60 @@ public class EmployeeController implements IEmployeeController{
     @Autowired
     private IEmployeeService employeeService;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private HttpMessageConverters httpMessageConverters;
+
+    @Autowired
+    private EmployeeHttpCacheProperties httpCacheProperties;
+
+    @Autowired
+    private HttpServletRequest request;
+
     @Override
     @GetMapping()
-    public ResponseEntity<List<Employee>> getAllEmployees() {
-        return ResponseEntity.status(HttpStatus.OK).body(
-                employeeService.getAllEmployees()
-        );
+    public ResponseEntity<List<?>> getAllEmployees(
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) List<String> fields) {
+        String snapshotVersion = employeeService.getSnapshotVersion();
+        if (null == page && null == size && null == sort && null == fields) {
+            return cacheable("getAllEmployees", snapshotVersion).body(
+                    employeeService.getAllEmployees()
+            );
+        }
+        EmployeeQuerySupport.SortOrder sortOrder = EmployeeQuerySupport.parseSort(sort);
+        EmployeePage employeePage = employeeService.getEmployeePage(null != page ? page : 0,
+                EmployeeQuerySupport.pageSize(page, size), sortOrder.field(), sortOrder.descending());
+        return cacheable("getAllEmployees", snapshotVersion)
+                .header(EmployeeQuerySupport.TOTAL_COUNT_HEADER, String.valueOf(employeePage.getTotalElements()))
+                .body(null == fields ? employeePage.getEmployees() : EmployeeQuerySupport.project(employeePage.getEmployees(), fields));
+    }
+
+    @Override
+    @GetMapping(params = "stream=true")
+    public ResponseEntity<StreamingResponseBody> streamAllEmployees() {
+        EmployeeWireFormat format = EmployeeWireFormat.negotiate(request.getHeader(HttpHeaders.ACCEPT));
+        return streamEmployees(objectMapperFor(format), format.getMediaType(), false);
+    }
+
+    @Override
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllEmployeesAsNdjson() {
+        return streamEmployees(objectMapper, MediaType.APPLICATION_NDJSON, true);
     }
 
     @Override
     @GetMapping("/search/{searchString}")
     public ResponseEntity<List<Employee>> getEmployeesByNameSearch(
-            @PathVariable String searchString) {
+            @PathVariable String searchString,
+            @RequestParam(defaultValue = "CONTAINS") NameSearchMode mode,
+            @RequestParam(defaultValue = "false") boolean ignoreCase) {
         return ResponseEntity.status(HttpStatus.OK).body(
-                employeeService.getEmployeesByNameSearch(searchString)
+                employeeService.getEmployeesByNameSearch(searchString, mode, ignoreCase)
         );
     }
 
@@ -53,14 +112,16 @@ public class EmployeeController implements IEmployeeController{
     @Override
     @GetMapping("/highestSalary")
     public ResponseEntity<Integer> getHighestSalaryOfEmployees() {
-        return ResponseEntity.status(HttpStatus.OK)
+        String snapshotVersion = employeeService.getSnapshotVersion();
+        return cacheable("getHighestSalaryOfEmployees", snapshotVersion)
                 .body(employeeService.getHighestSalaryOfEmployees());
     }
 
     @Override
     @GetMapping("/topTenHighestEarningEmployeeNames")
     public ResponseEntity<List<String>> getTopTenHighestEarningEmployeeNames() {
-        return ResponseEntity.status(HttpStatus.OK)
+        String snapshotVersion = employeeService.getSnapshotVersion();
+        return cacheable("getTopTenHighestEarningEmployeeNames", snapshotVersion)
                 .body(employeeService.getTopTenHighestEarningEmployeeNames());
     }
 
@@ -83,6 +144,74 @@ public class EmployeeController implements IEmployeeController{
                 employeeService.deleteEmployeeById(id));
     }
 
+    @Override
+    @PostMapping(value = "/bulk", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> createEmployees(@RequestBody List<CreateEmployeeRequest> createEmployeeRequests) {
+        return ResponseEntity.status(HttpStatus.OK).contentType(MediaType.APPLICATION_NDJSON).body(
+                stream(employeeService.createEmployees(createEmployeeRequests), BulkItemResult.class, objectMapper, true));
+    }
+
+    @Override
+    @DeleteMapping(value = "/bulk", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> deleteEmployeesById(@RequestBody List<String> ids) {
+        return ResponseEntity.status(HttpStatus.OK).contentType(MediaType.APPLICATION_NDJSON).body(
+                stream(employeeService.deleteEmployeesById(ids), BulkItemResult.class, objectMapper, true));
+    }
+
+    // The version is read before the body, so a body from a newer snapshot is at worst re-sent on the next poll.
+    // Spring answers a matching If-None-Match with 304 and skips writing the body.
+    private ResponseEntity.BodyBuilder cacheable(String endpoint, String snapshotVersion) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(HttpStatus.OK)
+                .header(HttpHeaders.CACHE_CONTROL, httpCacheProperties.resolveCacheControl(endpoint))
+                .varyBy(HttpHeaders.ACCEPT);
+        if (null == snapshotVersion) {
+            return builder;
+        }
+        return builder.eTag(EmployeeWireFormat.negotiate(request.getHeader(HttpHeaders.ACCEPT)).eTag(snapshotVersion));
+    }
+
+    // The array, its Smile and CBOR encodings and NDJSON are all picked by Accept, so caches must key on it too
+    private ResponseEntity<StreamingResponseBody> streamEmployees(ObjectMapper itemMapper, MediaType mediaType, boolean newlineDelimited) {
+        return ResponseEntity.status(HttpStatus.OK).contentType(mediaType).varyBy(HttpHeaders.ACCEPT)
+                .body(stream(employeeService.streamAllEmployees(), Employee.class, itemMapper, newlineDelimited));
+    }
+
+    // The mapper of the converter Spring would pick for the format, so streamed and buffered bodies encode alike
+    private ObjectMapper objectMapperFor(EmployeeWireFormat format) {
+        if (format != EmployeeWireFormat.JSON) {
+            for (HttpMessageConverter<?> converter : httpMessageConverters.getConverters()) {
+                if (converter instanceof AbstractJackson2HttpMessageConverter jacksonConverter
+                        && jacksonConverter.canWrite(Employee.class, format.getMediaType())) {
+                    return jacksonConverter.getObjectMapper();
+                }
+            }
+        }
+        return objectMapper;
+    }
+
+    // The stream is opened before the body is returned, so failures to start it still map to an error status
+    private <T> StreamingResponseBody stream(Stream<T> items, Class<T> type, ObjectMapper itemMapper, boolean newlineDelimited) {
+        ObjectWriter writer = itemMapper.writerFor(type)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        // NDJSON items are root values, which JSON would otherwise separate with a space. Array items need no
+        // separator, and the Smile and CBOR generators reject one
+        ObjectWriter itemWriter = newlineDelimited ? writer.withRootValueSeparator("") : writer;
+        return outputStream -> {
+            try (items; JsonGenerator generator = itemMapper.getFactory().createGenerator(outputStream)) {
+                if (!newlineDelimited) generator.writeStartArray();
+                Iterator<T> iterator = items.iterator();
+                while (iterator.hasNext()) {
+                    itemWriter.writeValue(generator, iterator.next());
+                    if (newlineDelimited) generator.writeRaw('\n');
+                }
+                if (!newlineDelimited) generator.writeEndArray();
+            } catch (RuntimeException exception) {
+                log.error("Streaming {} failed after the response was committed: {}", type.getSimpleName(), exception.getMessage());
+                throw exception;
+            }
+        };
+    }
+
     private CreateEmployeeRequest mapToCreateEmployeeRequest(@Valid Map<String, Object> employeeInput) {
         return CreateEmployeeRequest.builder()
                 .name((String) employeeInput.get("name"))
@@ -0,0 +1,67 @@
+package com.example.rqchallenge.controller;
+
+import com.example.rqchallenge.exception.BadRequestException;
+import com.example.rqchallenge.model.Employee;
+import com.example.rqchallenge.model.EmployeeField;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Parsing of the list endpoint's {@code sort} and {@code fields} parameters, shared by the servlet and reactive
+ * controllers.
+ */
+final class EmployeeQuerySupport {
+
+    static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+
+    static final int DEFAULT_PAGE_SIZE = 20;
+
+    // The same bound the size parameter is validated against
+    static final int MAX_PAGE_SIZE = 1000;
+
+    private EmployeeQuerySupport() {
+    }
+
+    record SortOrder(EmployeeField field, boolean descending) {
+        static final SortOrder UNSORTED = new SortOrder(null, false);
+    }
+
+    static SortOrder parseSort(String sort) {
+        if (null == sort) {
+            return SortOrder.UNSORTED;
+        }
+        String[] sortParts = sort.split(",");
+        EmployeeField sortField = parseField(sortParts[0].trim());
+        boolean descending = sortParts.length > 1 && "desc".equalsIgnoreCase(sortParts[1].trim());
+        if (sortParts.length > 2 || (sortParts.length > 1 && !descending && !"asc".equalsIgnoreCase(sortParts[1].trim()))) {
+            throw new BadRequestException("Invalid sort: " + sort);
+        }
+        return new SortOrder(sortField, descending);
+    }
+
+    // A request that only sorts or projects gets the largest page, the total count header tells it whether there is more
+    static int pageSize(Integer page, Integer size) {
+        return null != size ? size : null != page ? DEFAULT_PAGE_SIZE : MAX_PAGE_SIZE;
+    }
+
+    static List<Map<String, Object>> project(List<Employee> employees, List<String> fields) {
+        List<EmployeeField> projection = fields.stream().map(field -> parseField(field.trim())).distinct().toList();
+        List<Map<String, Object>> projected = new ArrayList<>(employees.size());
+        for (Employee employee : employees) {
+            Map<String, Object> values = new LinkedHashMap<>();
+            for (EmployeeField field : projection) {
+                values.put(field.getJsonName(), field.valueOf(employee));
+            }
+            projected.add(values);
+        }
+        return projected;
+    }
+
+    static EmployeeField parseField(String field) {
+        return EmployeeField.fromName(field)
+                .orElseThrow(() -> new BadRequestException("Unknown employee field: " + field));
+    }
+}
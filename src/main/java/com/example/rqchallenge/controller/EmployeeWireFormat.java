@@ -0,0 +1,58 @@
+package com.example.rqchallenge.controller;
+
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Representations of the employee endpoints a client can ask for through {@code Accept}. JSON stays the default,
+ * Smile and CBOR are binary encodings of the same Jackson model for bulk consumers.
+ */
+enum EmployeeWireFormat {
+
+    JSON(MediaType.APPLICATION_JSON),
+    SMILE(new MediaType("application", "x-jackson-smile")),
+    CBOR(MediaType.APPLICATION_CBOR);
+
+    private final MediaType mediaType;
+
+    EmployeeWireFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    MediaType getMediaType() {
+        return mediaType;
+    }
+
+    // Same pick as Spring's content negotiation, where the JSON converter comes first and so wins any wildcard
+    static EmployeeWireFormat negotiate(String accept) {
+        if (null == accept || accept.isBlank()) {
+            return JSON;
+        }
+        List<MediaType> acceptedTypes;
+        try {
+            acceptedTypes = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException exception) {
+            return JSON;
+        }
+        MediaType.sortBySpecificityAndQuality(acceptedTypes);
+        for (MediaType acceptedType : acceptedTypes) {
+            if (acceptedType.getQualityValue() == 0d) {
+                continue;
+            }
+            for (EmployeeWireFormat format : values()) {
+                if (acceptedType.includes(format.mediaType)) {
+                    return format;
+                }
+            }
+        }
+        return JSON;
+    }
+
+    // Each representation gets its own validator, or a cache holding the JSON body could revalidate it for a Smile request
+    String eTag(String snapshotVersion) {
+        return this == JSON ? snapshotVersion : snapshotVersion + '-' + name().toLowerCase(Locale.ROOT);
+    }
+}
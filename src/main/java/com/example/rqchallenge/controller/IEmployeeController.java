@@ -1,20 +1,36 @@
 package com.example.rqchallenge.controller;
 
+import com.example.rqchallenge.model.CreateEmployeeRequest;
 import com.example.rqchallenge.model.Employee;
+import com.example.rqchallenge.model.NameSearchMode;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import javax.validation.Valid;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
 import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Size;
 import java.util.List;
 import java.util.Map;
 
 
 public interface IEmployeeController {
 
-    ResponseEntity<List<Employee>> getAllEmployees();
+    ResponseEntity<List<?>> getAllEmployees(@Min(value = 0, message = "page cannot be negative") Integer page,
+                                            @Min(value = 1, message = "size must be at least 1") @Max(value = 1000, message = "size cannot exceed 1000") Integer size,
+                                            String sort,
+                                            List<String> fields);
 
-    ResponseEntity<List<Employee>> getEmployeesByNameSearch(@PathVariable @NotBlank(message = "Search string cannot be blank") String searchString);
+    ResponseEntity<StreamingResponseBody> streamAllEmployees();
+
+    ResponseEntity<StreamingResponseBody> streamAllEmployeesAsNdjson();
+
+    ResponseEntity<List<Employee>> getEmployeesByNameSearch(@PathVariable @NotBlank(message = "Search string cannot be blank") String searchString,
+                                                            NameSearchMode mode,
+                                                            boolean ignoreCase);
 
     ResponseEntity<Employee> getEmployeeById(@PathVariable @NotBlank(message = "id cannot be blank") String id);
 
@@ -26,5 +42,9 @@ public interface IEmployeeController {
 
     ResponseEntity<String> deleteEmployeeById(@PathVariable @NotBlank(message = "id cannot be blank") String id);
 
+    ResponseEntity<StreamingResponseBody> createEmployees(@RequestBody @NotEmpty(message = "batch cannot be empty") @Size(max = 10000, message = "batch cannot exceed 10000 items") List<@Valid CreateEmployeeRequest> createEmployeeRequests);
+
+    ResponseEntity<StreamingResponseBody> deleteEmployeesById(@RequestBody @NotEmpty(message = "batch cannot be empty") @Size(max = 10000, message = "batch cannot exceed 10000 items") List<@NotBlank(message = "id cannot be blank") String> ids);
+
 
 }
@@ -0,0 +1,40 @@
+package com.example.rqchallenge.controller;
+
+import com.example.rqchallenge.model.Employee;
+import com.example.rqchallenge.model.NameSearchMode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import javax.validation.Valid;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotBlank;
+import java.util.List;
+import java.util.Map;
+
+
+public interface IReactiveEmployeeController {
+
+    Mono<ResponseEntity<Flux<?>>> getAllEmployees(@Min(value = 0, message = "page cannot be negative") Integer page,
+                                                  @Min(value = 1, message = "size must be at least 1") @Max(value = 1000, message = "size cannot exceed 1000") Integer size,
+                                                  String sort,
+                                                  List<String> fields);
+
+    Flux<Employee> getEmployeesByNameSearch(@PathVariable @NotBlank(message = "Search string cannot be blank") String searchString,
+                                            NameSearchMode mode,
+                                            boolean ignoreCase);
+
+    Mono<Employee> getEmployeeById(@PathVariable @NotBlank(message = "id cannot be blank") String id);
+
+    Mono<Integer> getHighestSalaryOfEmployees();
+
+    Mono<List<String>> getTopTenHighestEarningEmployeeNames();
+
+    Mono<ResponseEntity<Employee>> createEmployee(@RequestBody @Valid Map<String, Object> employeeInput);
+
+    Mono<String> deleteEmployeeById(@PathVariable @NotBlank(message = "id cannot be blank") String id);
+
+
+}
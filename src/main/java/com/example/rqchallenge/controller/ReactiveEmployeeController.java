@@ -0,0 +1,99 @@
+package com.example.rqchallenge.controller;
+
+import com.example.rqchallenge.model.CreateEmployeeRequest;
+import com.example.rqchallenge.model.Employee;
+import com.example.rqchallenge.model.NameSearchMode;
+import com.example.rqchallenge.service.IReactiveEmployeeService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import javax.validation.Valid;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reactive profile variant of {@link EmployeeController} on the same paths. The list and search endpoints return a
+ * {@link Flux}, so {@code Accept: application/x-ndjson} streams them without a separate endpoint.
+ */
+@RestController
+@Profile("reactive")
+@RequestMapping("/api/v1/employee")
+@Validated
+public class ReactiveEmployeeController implements IReactiveEmployeeController {
+
+    @Autowired
+    private IReactiveEmployeeService employeeService;
+
+    @Override
+    @GetMapping()
+    public Mono<ResponseEntity<Flux<?>>> getAllEmployees(
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) List<String> fields) {
+        if (null == page && null == size && null == sort && null == fields) {
+            return Mono.just(ResponseEntity.status(HttpStatus.OK).<Flux<?>>body(employeeService.getAllEmployees()));
+        }
+        EmployeeQuerySupport.SortOrder sortOrder = EmployeeQuerySupport.parseSort(sort);
+        return employeeService.getEmployeePage(null != page ? page : 0, EmployeeQuerySupport.pageSize(page, size),
+                        sortOrder.field(), sortOrder.descending())
+                .map(employeePage -> ResponseEntity.status(HttpStatus.OK)
+                        .header(EmployeeQuerySupport.TOTAL_COUNT_HEADER, String.valueOf(employeePage.getTotalElements()))
+                        .<Flux<?>>body(Flux.fromIterable(null == fields
+                                ? employeePage.getEmployees()
+                                : EmployeeQuerySupport.project(employeePage.getEmployees(), fields))));
+    }
+
+    @Override
+    @GetMapping("/search/{searchString}")
+    public Flux<Employee> getEmployeesByNameSearch(
+            @PathVariable String searchString,
+            @RequestParam(defaultValue = "CONTAINS") NameSearchMode mode,
+            @RequestParam(defaultValue = "false") boolean ignoreCase) {
+        return employeeService.getEmployeesByNameSearch(searchString, mode, ignoreCase);
+    }
+
+    @Override
+    @GetMapping("/{id}")
+    public Mono<Employee> getEmployeeById(
+            @PathVariable String id) {
+        return employeeService.getEmployeeById(id);
+    }
+
+    @Override
+    @GetMapping("/highestSalary")
+    public Mono<Integer> getHighestSalaryOfEmployees() {
+        return employeeService.getHighestSalaryOfEmployees();
+    }
+
+    @Override
+    @GetMapping("/topTenHighestEarningEmployeeNames")
+    public Mono<List<String>> getTopTenHighestEarningEmployeeNames() {
+        return employeeService.getTopTenHighestEarningEmployeeNames().collectList();
+    }
+
+    @Override
+    @PostMapping()
+    public Mono<ResponseEntity<Employee>> createEmployee(@RequestBody @Valid Map<String, Object> employeeInput) {
+        CreateEmployeeRequest createEmployeeRequest = CreateEmployeeRequest.builder()
+                .name((String) employeeInput.get("name"))
+                .age((Integer) employeeInput.get("age"))
+                .salary((Double) employeeInput.get("salary"))
+                .build();
+        return employeeService.createEmployee(createEmployeeRequest)
+                .map(employee -> ResponseEntity.status(HttpStatus.CREATED).body(employee));
+    }
+
+    @Override
+    @DeleteMapping("/{id}")
+    public Mono<String> deleteEmployeeById(
+            @PathVariable String id) {
+        return employeeService.deleteEmployeeById(id);
+    }
+}
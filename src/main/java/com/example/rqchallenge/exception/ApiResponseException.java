@@ -5,4 +5,9 @@ public class ApiResponseException extends RuntimeException {
     public ApiResponseException(String message) {
         super(message);
     }
+
+    // For instances shared across failures, which must not carry the stack of whichever call created them
+    public ApiResponseException(String message, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+    }
 }
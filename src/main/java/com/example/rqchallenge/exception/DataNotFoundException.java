@@ -5,4 +5,9 @@ public class DataNotFoundException extends RuntimeException {
     public DataNotFoundException(String message) {
         super(message);
     }
+
+    // For instances shared across failures, which must not carry the stack of whichever call created them
+    public DataNotFoundException(String message, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+    }
 }
@@ -0,0 +1,57 @@
+package com.example.rqchallenge.exception;
+
+import com.example.rqchallenge.config.EmployeeMetricsProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Logs each kind of failure of an operation at most once per interval, reporting how many repeats were dropped in
+ * between. Failures {@link ExceptionTranslator} expects are logged without their stack trace.
+ */
+@Slf4j
+@Component
+public class ErrorLogThrottle {
+
+    private final long intervalNanos;
+    private final ConcurrentMap<String, ConcurrentMap<Class<?>, Window>> windows = new ConcurrentHashMap<>();
+
+    public ErrorLogThrottle(EmployeeMetricsProperties metricsProperties) {
+        this.intervalNanos = metricsProperties.getErrorLogInterval().toNanos();
+    }
+
+    public void log(String operation, Exception exception) {
+        Window window = windows.computeIfAbsent(operation, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(exception.getClass(), key -> new Window());
+        long suppressed = window.tryLog(System.nanoTime(), intervalNanos);
+        if (suppressed < 0) {
+            return;
+        }
+        if (ExceptionTranslator.isExpected(exception)) {
+            log.warn("Exception occurred in {}: {} ({} similar suppressed)", operation, exception.getMessage(), suppressed);
+        } else {
+            log.error("Exception occurred in {}: {} ({} similar suppressed)", operation, exception.getMessage(), suppressed, exception);
+        }
+    }
+
+    private static class Window {
+
+        private final AtomicLong openedAt = new AtomicLong();
+        private final AtomicLong suppressed = new AtomicLong();
+        private volatile boolean opened;
+
+        // The number of failures dropped since the last logged one, or -1 when this one is to be dropped as well
+        long tryLog(long now, long intervalNanos) {
+            long start = openedAt.get();
+            if ((opened && now - start < intervalNanos) || !openedAt.compareAndSet(start, now)) {
+                suppressed.incrementAndGet();
+                return -1;
+            }
+            opened = true;
+            return suppressed.getAndSet(0);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.rqchallenge.exception;
+
+import feign.FeignException;
+
+import java.util.Map;
+
+/**
+ * Maps failures coming out of the upstream clients to the exceptions the API reports. Shared by the servlet stack,
+ * where {@code ExceptionHandlingAspect} throws the result, and the reactive stack, which maps error signals with it.
+ * Expected upstream failures translate to shared instances without stack traces, so the error path allocates nothing.
+ */
+public final class ExceptionTranslator {
+
+    private static final Translation API_FAILURE = Translation.replaceWith(
+            new ApiResponseException("Failed to get the response from API", false));
+    private static final Translation TOO_MANY_REQUESTS = Translation.replaceWith(
+            new TooManyRequestException("API is unable to take the request", false));
+    private static final Translation UNREACHABLE = Translation.replaceWith(
+            new UpstreamUnavailableException("Dummy API is unreachable, the connection failed"));
+    private static final Translation NOT_FOUND = Translation.replaceWith(
+            new DataNotFoundException("No Data found on the API for given selector", false));
+    // Feign raises RetryableException for I/O failures and for any error response carrying Retry-After alike
+    private static final Translation BY_STATUS = new Translation(null, true);
+    private static final Translation PASS_THROUGH = new Translation(null, true);
+    private static final Translation UNEXPECTED = new Translation(null, false);
+
+    private static final Map<String, Translation> TRANSLATIONS = Map.ofEntries(
+            Map.entry("com.example.rqchallenge.exception.ApiResponseException", API_FAILURE),
+            Map.entry("feign.FeignException.InternalServerError", API_FAILURE),
+            Map.entry("org.springframework.web.reactive.function.client.WebClientResponseException.InternalServerError", API_FAILURE),
+            Map.entry("feign.RetryableException", BY_STATUS),
+            Map.entry("feign.FeignException.TooManyRequests", TOO_MANY_REQUESTS),
+            Map.entry("org.springframework.web.reactive.function.client.WebClientRequestException", UNREACHABLE),
+            Map.entry("org.springframework.web.reactive.function.client.WebClientResponseException.TooManyRequests", TOO_MANY_REQUESTS),
+            Map.entry("com.example.rqchallenge.exception.DataNotFoundException", NOT_FOUND),
+            Map.entry("javax.validation.ConstraintViolationException", PASS_THROUGH),
+            Map.entry("com.example.rqchallenge.exception.UpstreamUnavailableException", PASS_THROUGH));
+
+    // Resolved once per exception class instead of comparing class names on every failure
+    private static final ClassValue<Translation> BY_CLASS = new ClassValue<>() {
+        @Override
+        protected Translation computeValue(Class<?> type) {
+            String name = type.getCanonicalName();
+            return null == name ? UNEXPECTED : TRANSLATIONS.getOrDefault(name, UNEXPECTED);
+        }
+    };
+
+    private ExceptionTranslator() {
+    }
+
+    public static Exception translate(Exception exception) {
+        Translation translation = BY_CLASS.get(exception.getClass());
+        if (translation == PASS_THROUGH) return exception;
+        if (translation == UNEXPECTED) return new Exception("Internal Server Error");
+        if (translation == BY_STATUS) translation = byStatus(((FeignException) exception).status());
+        return translation.replacement();
+    }
+
+    // Whether the failure is one the API reports as a known error, rather than a bug worth a stack trace
+    public static boolean isExpected(Exception exception) {
+        return BY_CLASS.get(exception.getClass()).expected();
+    }
+
+    // No status means the call failed on the connection, which the reactive client reports as WebClientRequestException
+    private static Translation byStatus(int status) {
+        if (status < 0) return UNREACHABLE;
+        return status == 429 ? TOO_MANY_REQUESTS : API_FAILURE;
+    }
+
+    private record Translation(Exception replacement, boolean expected) {
+
+        static Translation replaceWith(Exception replacement) {
+            return new Translation(replacement, true);
+        }
+    }
+}
@@ -5,4 +5,9 @@ public class TooManyRequestException extends RuntimeException {
     public TooManyRequestException(String message) {
         super(message);
     }
+
+    // For instances shared across failures, which must not carry the stack of whichever call created them
+    public TooManyRequestException(String message, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+    }
 }
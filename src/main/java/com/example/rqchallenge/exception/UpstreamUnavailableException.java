@@ -0,0 +1,9 @@
+package com.example.rqchallenge.exception;
+
+// Signals a call rejected before reaching the upstream, so it carries no stack trace and instances can be shared
+public class UpstreamUnavailableException extends RuntimeException {
+
+    public UpstreamUnavailableException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -3,8 +3,8 @@ package com.example.rqchallenge.feign;
 import com.example.rqchallenge.feign.dto.EmployeeApiResponse;
 import com.example.rqchallenge.feign.dto.EmployeeListApiResponse;
 import com.example.rqchallenge.model.CreateEmployeeRequest;
+import feign.Response;
 import org.springframework.cloud.openfeign.FeignClient;
-import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -14,19 +14,24 @@ import org.springframework.web.bind.annotation.RequestBody;
 @FeignClient(name = "employeeApiClient", url = "${employee.api.base-url}")
 public interface EmployeeApiClient {
 
-    @Retryable(value = Exception.class, backoff = @Backoff(delay = 2000))
+    @Retryable(interceptor = "employeeApiRetryInterceptor")
     @GetMapping("/api/v1/employees")
     EmployeeListApiResponse getAllEmployees();
 
-    @Retryable(value = Exception.class, backoff = @Backoff(delay = 2000))
+    // Returns the raw response so the body can be parsed incrementally, error statuses are not decoded.
+    // Not retried: a body that fails mid-read cannot be replayed once the caller has consumed part of it
+    @GetMapping("/api/v1/employees")
+    Response streamAllEmployees();
+
+    @Retryable(interceptor = "employeeApiRetryInterceptor")
     @GetMapping("/api/v1/employee/{id}")
     EmployeeApiResponse getEmployeeById(@PathVariable String id);
 
-    @Retryable(value = Exception.class, backoff = @Backoff(delay = 2000))
+    @Retryable(interceptor = "employeeApiRetryInterceptor")
     @PostMapping("/api/v1/create")
     EmployeeApiResponse createEmployee(@RequestBody CreateEmployeeRequest createEmployeeRequest);
 
-    @Retryable(value = Exception.class, backoff = @Backoff(delay = 2000))
+    @Retryable(interceptor = "employeeApiRetryInterceptor")
     @GetMapping("/api/v1/delete/{id}")
     EmployeeApiResponse deleteEmployeeById(@PathVariable String id);
 }
@@ -0,0 +1,76 @@
+package com.example.rqchallenge.feign;
+
+import com.example.rqchallenge.exception.UpstreamUnavailableException;
+import com.example.rqchallenge.resilience.EmployeeApiRateLimiters;
+import com.example.rqchallenge.resilience.RateLimiter;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Paces every attempt sent to the dummy API, retries included, through the operation's {@link RateLimiter} and
+ * feeds it the upstream's answers: 429 and 503 responses slow it down and their Retry-After holds further calls,
+ * other successful responses let it speed back up. A call that would wait too long is not sent; it fails with
+ * {@link UpstreamUnavailableException}, which the snapshot cache answers from its last good snapshot.
+ */
+public class EmployeeApiRateLimitingClient implements Client {
+
+    private static final UpstreamUnavailableException RATE_LIMITED =
+            new UpstreamUnavailableException("Dummy API rate limit reached, the call was not sent");
+
+    private final Client delegate;
+    private final EmployeeApiRateLimiters rateLimiters;
+
+    public EmployeeApiRateLimitingClient(Client delegate, EmployeeApiRateLimiters rateLimiters) {
+        this.delegate = delegate;
+        this.rateLimiters = rateLimiters;
+    }
+
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        String operation = FeignRequests.methodName(request);
+        Optional<RateLimiter> rateLimiter = rateLimiters.forOperation(operation);
+        if (rateLimiter.isEmpty()) {
+            return delegate.execute(request, options);
+        }
+        if (!rateLimiter.get().tryAcquire()) {
+            rateLimiters.rejected(operation);
+            throw RATE_LIMITED;
+        }
+        long sentAtNanos = System.nanoTime();
+        Response response = delegate.execute(request, options);
+        if (response.status() == 429 || response.status() == 503) {
+            rateLimiter.get().onThrottled(sentAtNanos, retryAfterNanos(response));
+        } else if (response.status() < 400) {
+            rateLimiter.get().onSuccess();
+        }
+        return response;
+    }
+
+    // Retry-After is either a number of seconds or an HTTP date
+    static long retryAfterNanos(Response response) {
+        Collection<String> values = response.headers().get("Retry-After");
+        if (null == values || values.isEmpty()) {
+            return 0L;
+        }
+        String value = values.iterator().next().trim();
+        try {
+            return Duration.ofSeconds(Long.parseLong(value)).toNanos();
+        } catch (NumberFormatException notSeconds) {
+            try {
+                return Math.max(0L, Duration.between(ZonedDateTime.now(),
+                        ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME)).toNanos());
+            } catch (DateTimeParseException notDate) {
+                return 0L;
+            }
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.rqchallenge.feign;
+
+import com.example.rqchallenge.config.EmployeeApiTransportProperties;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replaces the client wide Feign timeouts with the ones {@link EmployeeApiTransportProperties} sets for the called
+ * {@link EmployeeApiClient} method, so the full roster download can be given longer than a single employee lookup.
+ */
+public class EmployeeApiTimeoutClient implements Client {
+
+    private final Client delegate;
+    private final EmployeeApiTransportProperties transportProperties;
+    private final Map<String, Request.Options> options = new ConcurrentHashMap<>();
+
+    public EmployeeApiTimeoutClient(Client delegate, EmployeeApiTransportProperties transportProperties) {
+        this.delegate = delegate;
+        this.transportProperties = transportProperties;
+    }
+
+    @Override
+    public Response execute(Request request, Request.Options defaults) throws IOException {
+        return delegate.execute(request, options.computeIfAbsent(FeignRequests.methodName(request), method -> {
+            EmployeeApiTransportProperties.Timeouts timeouts = transportProperties.resolve(method);
+            return new Request.Options(timeouts.getConnectTimeout().toMillis(), TimeUnit.MILLISECONDS,
+                    timeouts.getReadTimeout().toMillis(), TimeUnit.MILLISECONDS, defaults.isFollowRedirects());
+        }));
+    }
+}
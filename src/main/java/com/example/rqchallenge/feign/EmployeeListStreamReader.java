@@ -0,0 +1,108 @@
+package com.example.rqchallenge.feign;
+
+import com.example.rqchallenge.exception.ApiResponseException;
+import com.example.rqchallenge.feign.dto.EmployeeDto;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.FeignException;
+import feign.Response;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads the {@code data} array of an employee list response one element at a time, so the whole upstream body never
+ * has to be held in memory. The returned stream owns the upstream connection and must be closed.
+ */
+@Component
+public class EmployeeListStreamReader {
+
+    private final JsonFactory jsonFactory;
+
+    public EmployeeListStreamReader(ObjectMapper objectMapper) {
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    public Stream<EmployeeDto> read(Response response) {
+        if (response.status() >= 300) {
+            FeignException exception = FeignException.errorStatus("EmployeeApiClient#streamAllEmployees()", response);
+            response.close();
+            throw exception;
+        }
+        JsonParser parser = null;
+        try {
+            parser = jsonFactory.createParser(response.body().asInputStream());
+            moveToData(parser);
+            JsonParser dataParser = parser;
+            return StreamSupport.stream(new EmployeeSpliterator(dataParser), false)
+                    .onClose(() -> close(dataParser, response));
+        } catch (IOException | RuntimeException exception) {
+            close(parser, response);
+            if (exception instanceof RuntimeException runtimeException) throw runtimeException;
+            throw new ApiResponseException("Failed to get the response from API");
+        }
+    }
+
+    private void moveToData(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new ApiResponseException("Failed to get the response from API");
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if ("status".equals(field) && !"success".equalsIgnoreCase(parser.getValueAsString())) {
+                throw new ApiResponseException("Received Failure response from dummy API");
+            }
+            if ("data".equals(field) && value == JsonToken.START_ARRAY) {
+                return;
+            }
+            parser.skipChildren();
+        }
+        throw new ApiResponseException("Failed to get the response from API");
+    }
+
+    private static void close(JsonParser parser, Response response) {
+        try {
+            if (null != parser) parser.close();
+        } catch (IOException ignored) {
+            // the connection is released below either way
+        } finally {
+            response.close();
+        }
+    }
+
+    private static class EmployeeSpliterator extends Spliterators.AbstractSpliterator<EmployeeDto> {
+
+        private final JsonParser parser;
+
+        EmployeeSpliterator(JsonParser parser) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.parser = parser;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super EmployeeDto> action) {
+            try {
+                JsonToken token = parser.nextToken();
+                while (token == JsonToken.VALUE_NULL) {
+                    token = parser.nextToken();
+                }
+                if (token != JsonToken.START_OBJECT) {
+                    return false;
+                }
+                action.accept(EmployeeResponseDecoder.readEmployee(parser));
+                return true;
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+        }
+    }
+}
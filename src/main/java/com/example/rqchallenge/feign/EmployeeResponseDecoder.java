@@ -0,0 +1,186 @@
+package com.example.rqchallenge.feign;
+
+import com.example.rqchallenge.feign.dto.EmployeeApiResponse;
+import com.example.rqchallenge.feign.dto.EmployeeDto;
+import com.example.rqchallenge.feign.dto.EmployeeListApiResponse;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import feign.Response;
+import feign.codec.Decoder;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Decodes the employee responses of the dummy API straight off a {@link JsonParser}, instead of binding them through
+ * the {@code ObjectMapper}, which goes through EmployeeDto's creator and resolves its {@code @JsonAlias} names per
+ * field. Both the upstream's {@code employee_*} names and EmployeeDto's own are read, unknown fields are skipped.
+ * Every other return type is left to the delegate.
+ */
+public class EmployeeResponseDecoder implements Decoder {
+
+    private final JsonFactory jsonFactory;
+    private final Decoder delegate;
+
+    public EmployeeResponseDecoder(JsonFactory jsonFactory, Decoder delegate) {
+        this.jsonFactory = jsonFactory;
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Object decode(Response response, Type type) throws IOException {
+        if (type != EmployeeListApiResponse.class && type != EmployeeApiResponse.class) {
+            return delegate.decode(response, type);
+        }
+        if (null == response.body()) {
+            return null;
+        }
+        try (JsonParser parser = jsonFactory.createParser(response.body().asInputStream())) {
+            JsonToken token = parser.nextToken();
+            if (null == token || token == JsonToken.VALUE_NULL) {
+                return null;
+            }
+            expect(parser, token, JsonToken.START_OBJECT);
+            return type == EmployeeListApiResponse.class ? readList(parser) : readSingle(parser);
+        }
+    }
+
+    private static EmployeeListApiResponse readList(JsonParser parser) throws IOException {
+        EmployeeListApiResponse.EmployeeListApiResponseBuilder listResponse = EmployeeListApiResponse.builder();
+        String field;
+        while (null != (field = parser.nextFieldName())) {
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "status" -> listResponse.status(text(parser));
+                case "message" -> listResponse.message(text(parser));
+                case "data" -> listResponse.data(value == JsonToken.VALUE_NULL ? null : readEmployees(parser, value));
+                default -> parser.skipChildren();
+            }
+        }
+        return listResponse.build();
+    }
+
+    private static EmployeeApiResponse readSingle(JsonParser parser) throws IOException {
+        EmployeeApiResponse.EmployeeApiResponseBuilder apiResponse = EmployeeApiResponse.builder();
+        String field;
+        while (null != (field = parser.nextFieldName())) {
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "status" -> apiResponse.status(text(parser));
+                case "message" -> apiResponse.message(text(parser));
+                case "data" -> {
+                    // The delete endpoint answers with the deleted id as data, which carries no employee
+                    if (value == JsonToken.START_OBJECT) {
+                        apiResponse.data(readEmployee(parser));
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+                default -> parser.skipChildren();
+            }
+        }
+        return apiResponse.build();
+    }
+
+    private static List<EmployeeDto> readEmployees(JsonParser parser, JsonToken value) throws IOException {
+        expect(parser, value, JsonToken.START_ARRAY);
+        List<EmployeeDto> employees = new ArrayList<>();
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token != JsonToken.VALUE_NULL) {
+                expect(parser, token, JsonToken.START_OBJECT);
+                employees.add(readEmployee(parser));
+            }
+        }
+        return employees;
+    }
+
+    // Expects the parser on the employee's START_OBJECT and leaves it on the matching END_OBJECT
+    static EmployeeDto readEmployee(JsonParser parser) throws IOException {
+        EmployeeDto.EmployeeDtoBuilder employee = EmployeeDto.builder();
+        String field;
+        while (null != (field = parser.nextFieldName())) {
+            JsonToken value = parser.nextToken();
+            if (value.isStructStart()) {
+                parser.skipChildren();
+                continue;
+            }
+            switch (field) {
+                case "id" -> employee.id(value == JsonToken.VALUE_NULL ? null : longValue(parser, value));
+                case "name", "employee_name" -> employee.employeeName(parser.getValueAsString());
+                case "salary", "employee_salary" -> employee.employeeSalary(doubleValue(parser, value));
+                case "age", "employee_age" -> employee.employeeAge(intValue(parser, value));
+                case "profileImage", "profile_image" -> employee.profileImage(parser.getValueAsString());
+                default -> {
+                }
+            }
+        }
+        return employee.build();
+    }
+
+    // The upstream quotes some numbers, those are parsed strictly rather than read as 0 when they are not numeric
+    private static long longValue(JsonParser parser, JsonToken value) throws IOException {
+        if (value == JsonToken.VALUE_STRING) {
+            try {
+                return Long.parseLong(parser.getText().trim());
+            } catch (NumberFormatException exception) {
+                throw notNumeric(parser);
+            }
+        }
+        return numeric(parser, value) ? parser.getLongValue() : 0L;
+    }
+
+    private static double doubleValue(JsonParser parser, JsonToken value) throws IOException {
+        if (value == JsonToken.VALUE_STRING) {
+            try {
+                return Double.parseDouble(parser.getText().trim());
+            } catch (NumberFormatException exception) {
+                throw notNumeric(parser);
+            }
+        }
+        return numeric(parser, value) ? parser.getDoubleValue() : 0d;
+    }
+
+    private static int intValue(JsonParser parser, JsonToken value) throws IOException {
+        if (value == JsonToken.VALUE_STRING) {
+            try {
+                return Integer.parseInt(parser.getText().trim());
+            } catch (NumberFormatException exception) {
+                throw notNumeric(parser);
+            }
+        }
+        return numeric(parser, value) ? parser.getIntValue() : 0;
+    }
+
+    // False for null, which reads as 0 like the ObjectMapper does for primitives, any other non-number is rejected
+    private static boolean numeric(JsonParser parser, JsonToken value) throws IOException {
+        if (value == JsonToken.VALUE_NULL) {
+            return false;
+        }
+        if (!value.isNumeric()) {
+            throw notNumeric(parser);
+        }
+        return true;
+    }
+
+    private static JsonParseException notNumeric(JsonParser parser) throws IOException {
+        return new JsonParseException(parser, "Expected a number for " + parser.currentName() + " but was " + parser.getText());
+    }
+
+    // Null for anything but a scalar, which is skipped over
+    private static String text(JsonParser parser) throws IOException {
+        String text = parser.getValueAsString();
+        parser.skipChildren();
+        return text;
+    }
+
+    private static void expect(JsonParser parser, JsonToken actual, JsonToken expected) throws JsonParseException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but was " + actual);
+        }
+    }
+}
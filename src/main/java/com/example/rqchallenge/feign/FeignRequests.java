@@ -0,0 +1,20 @@
+package com.example.rqchallenge.feign;
+
+import feign.Request;
+
+final class FeignRequests {
+
+    private FeignRequests() {
+    }
+
+    // Config keys look like EmployeeApiClient#getEmployeeById(String), requests built by hand have none
+    static String methodName(Request request) {
+        if (null == request.requestTemplate() || null == request.requestTemplate().methodMetadata()) {
+            return "";
+        }
+        String configKey = request.requestTemplate().methodMetadata().configKey();
+        int start = configKey.indexOf('#') + 1;
+        int end = configKey.indexOf('(', start);
+        return configKey.substring(start, end < 0 ? configKey.length() : end);
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.rqchallenge.feign;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Lets concurrent identical reads against the dummy API share a single in-flight call. The first caller for a key
+ * makes the call, everyone arriving while it is running waits for and receives the same result or exception.
+ */
+@Component
+public class RequestCoalescer {
+
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Counter> executedCounters = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Counter> coalescedCounters = new ConcurrentHashMap<>();
+    private final LongAdder executed = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final MeterRegistry meterRegistry;
+
+    public RequestCoalescer(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("employee.api.coalescing.ratio", this, RequestCoalescer::getCoalescingRatio)
+                .description("Share of upstream reads that were served by joining an in-flight call")
+                .register(meterRegistry);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String operation, String key, Supplier<T> call) {
+        String flightKey = operation + ':' + key;
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(flightKey, flight);
+        if (null != existing) {
+            coalesced.increment();
+            counter(coalescedCounters, operation, "coalesced").increment();
+            return (T) join(existing);
+        }
+        executed.increment();
+        counter(executedCounters, operation, "executed").increment();
+        // Removed before the flight completes, so a caller arriving after the result is in starts a call of its own
+        T result = null;
+        Throwable failure = null;
+        try {
+            result = call.get();
+            return result;
+        } catch (Throwable exception) {
+            failure = exception;
+            throw exception;
+        } finally {
+            inFlight.remove(flightKey, flight);
+            if (null == failure) {
+                flight.complete(result);
+            } else {
+                flight.completeExceptionally(failure);
+            }
+        }
+    }
+
+    public double getCoalescingRatio() {
+        long coalescedCalls = coalesced.sum();
+        long total = coalescedCalls + executed.sum();
+        return total == 0 ? 0d : (double) coalescedCalls / total;
+    }
+
+    private Counter counter(ConcurrentMap<String, Counter> counters, String operation, String outcome) {
+        return counters.computeIfAbsent(operation, key -> Counter.builder("employee.api.reads")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+    }
+
+    private static Object join(CompletableFuture<Object> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException runtimeException) throw runtimeException;
+            if (exception.getCause() instanceof Error error) throw error;
+            throw exception;
+        }
+    }
+}
@@ -1,11 +1,11 @@
 package com.example.rqchallenge.feign.dto;
 
 import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Builder;
 import lombok.Getter;
 
-@Builder
 @Getter
 public class EmployeeDto {
     @JsonAlias("id")
@@ -25,4 +25,19 @@ public class EmployeeDto {
 
     @JsonAlias("profile_image")
     private String profileImage;
+
+    // Named explicitly so any ObjectMapper can bind it, not only one with the parameter names module registered
+    @Builder
+    @JsonCreator
+    EmployeeDto(@JsonProperty("id") Long id,
+                @JsonProperty("name") @JsonAlias("employee_name") String employeeName,
+                @JsonProperty("salary") @JsonAlias("employee_salary") double employeeSalary,
+                @JsonProperty("age") @JsonAlias("employee_age") int employeeAge,
+                @JsonProperty("profileImage") @JsonAlias("profile_image") String profileImage) {
+        this.id = id;
+        this.employeeName = employeeName;
+        this.employeeSalary = employeeSalary;
+        this.employeeAge = employeeAge;
+        this.profileImage = profileImage;
+    }
 }
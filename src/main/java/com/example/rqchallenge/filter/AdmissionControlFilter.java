@@ -0,0 +1,137 @@
+package com.example.rqchallenge.filter;
+
+import com.example.rqchallenge.config.EmployeeAdmissionProperties;
+import com.example.rqchallenge.config.EmployeeAdmissionProperties.ClientRateLimit;
+import com.example.rqchallenge.config.EmployeeAdmissionProperties.Concurrency;
+import com.example.rqchallenge.resilience.AdaptiveConcurrencyLimit;
+import com.example.rqchallenge.resilience.RateLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Sheds requests before they reach {@code EmployeeController}. A client that has used up its token bucket gets a
+ * 429, and once the {@link AdaptiveConcurrencyLimit} is reached everyone else gets a 503, so the requests that are
+ * admitted keep a bounded latency instead of all of them queueing on the upstream. Clients are keyed by the
+ * configured header or else their remote address, as resolved from X-Forwarded-For by the server; a client picking
+ * its own keys only spreads over more buckets, the concurrency limit still caps the total.
+ * <p>
+ * The limit adapts to the latency of requests served synchronously only. Streamed and bulk responses finish
+ * asynchronously and take as long as their body does, so they hold a slot without feeding back a sample.
+ */
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    private final ClientRateLimit clientRateLimit;
+    private final AdaptiveConcurrencyLimit concurrencyLimit;
+    private final Map<String, RateLimiter> clientBuckets;
+    private final Counter clientRateLimited;
+    private final Counter concurrencyLimited;
+
+    public AdmissionControlFilter(EmployeeAdmissionProperties admissionProperties, MeterRegistry meterRegistry) {
+        Concurrency concurrency = admissionProperties.getConcurrency();
+        this.clientRateLimit = admissionProperties.getClientRateLimit();
+        this.concurrencyLimit = new AdaptiveConcurrencyLimit(concurrency.getInitialLimit(), concurrency.getMinLimit(),
+                concurrency.getMaxLimit(), concurrency.getLatencyThreshold(), concurrency.getBackoffRatio());
+        int maxClients = clientRateLimit.getMaxClients();
+        this.clientBuckets = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, RateLimiter> eldest) {
+                return size() > maxClients;
+            }
+        });
+        this.clientRateLimited = rejectedCounter(meterRegistry, "client_rate");
+        this.concurrencyLimited = rejectedCounter(meterRegistry, "concurrency");
+        Gauge.builder("employee.admission.limit", concurrencyLimit, AdaptiveConcurrencyLimit::getLimit)
+                .description("Concurrent requests currently admitted")
+                .register(meterRegistry);
+        Gauge.builder("employee.admission.in.flight", concurrencyLimit, AdaptiveConcurrencyLimit::getInFlight)
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (clientRateLimit.isEnabled() && !clientBucket(request).tryAcquire()) {
+            clientRateLimited.increment();
+            reject(response, HttpStatus.TOO_MANY_REQUESTS, "Too many requests from this client");
+            return;
+        }
+        if (!concurrencyLimit.tryAcquire()) {
+            concurrencyLimited.increment();
+            reject(response, HttpStatus.SERVICE_UNAVAILABLE, "Server is at capacity, retry later");
+            return;
+        }
+        long admittedAtNanos = System.nanoTime();
+        boolean releaseOnComplete = false;
+        try {
+            filterChain.doFilter(request, response);
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleaseOnComplete());
+                releaseOnComplete = true;
+            }
+        } finally {
+            if (!releaseOnComplete) {
+                concurrencyLimit.release(admittedAtNanos);
+            }
+        }
+    }
+
+    private RateLimiter clientBucket(HttpServletRequest request) {
+        String key = request.getHeader(clientRateLimit.getHeader());
+        if (null == key || key.isEmpty()) {
+            key = request.getRemoteAddr();
+        }
+        return clientBuckets.computeIfAbsent(key, client -> new RateLimiter(clientRateLimit.getPermitsPerSecond(),
+                clientRateLimit.getPermitsPerSecond(), clientRateLimit.getBurst(), Duration.ZERO));
+    }
+
+    private static void reject(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+        response.getWriter().write(message);
+    }
+
+    private static Counter rejectedCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("employee.admission.rejected")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    // Streaming responses finish after the filter returns; timeouts and errors end in onComplete as well
+    private class ReleaseOnComplete implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            concurrencyLimit.releaseWithoutSample();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
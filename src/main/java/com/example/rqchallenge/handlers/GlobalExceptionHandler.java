@@ -1,16 +1,19 @@
 package com.example.rqchallenge.handlers;
 
 import com.example.rqchallenge.exception.ApiResponseException;
+import com.example.rqchallenge.exception.BadRequestException;
 import com.example.rqchallenge.exception.DataNotFoundException;
 import com.example.rqchallenge.exception.TooManyRequestException;
+import com.example.rqchallenge.exception.UpstreamUnavailableException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
-import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.bind.support.WebExchangeBindException;
 
 import javax.validation.ConstraintViolationException;
 import java.lang.reflect.Method;
@@ -29,11 +32,21 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ex.getMessage());
     }
 
+    @ExceptionHandler(BadRequestException.class)
+    public ResponseEntity<String> handleBadRequestException(BadRequestException ex) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ex.getMessage());
+    }
+
     @ExceptionHandler({TooManyRequestException.class})
     public ResponseEntity<String> handleTooManyRequestsException(Exception ex) {
         return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(ex.getMessage());
     }
 
+    @ExceptionHandler(UpstreamUnavailableException.class)
+    public ResponseEntity<String> handleUpstreamUnavailableException(UpstreamUnavailableException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(ex.getMessage());
+    }
+
     @ExceptionHandler({Exception.class})
     public ResponseEntity<String> handleAllOtherException(Exception ex) {
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ex.getMessage());
@@ -41,22 +54,33 @@ public class GlobalExceptionHandler {
 
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     @ExceptionHandler({MethodArgumentNotValidException.class})
-    public Map<String, String> handleValidationExceptions(MethodArgumentNotValidException ex,WebRequest request) {
-        Map<String, String> errors = new HashMap<>();
-        ex.getBindingResult().getAllErrors().forEach((error) -> {
-            String fieldName = ((FieldError) error).getField();
-            String errorMessage = error.getDefaultMessage();
-            errors.put(fieldName, errorMessage);
-        });
-        return errors;
+    public Map<String, String> handleValidationExceptions(MethodArgumentNotValidException ex) {
+        return fieldErrors(ex.getBindingResult());
+    }
+
+    // The reactive stack reports invalid request bodies with its own exception type
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ExceptionHandler({WebExchangeBindException.class})
+    public Map<String, String> handleWebExchangeBindException(WebExchangeBindException ex) {
+        return fieldErrors(ex.getBindingResult());
     }
 
     @ExceptionHandler(ConstraintViolationException.class)
-    public ResponseEntity<?> handleConstraintViolationException(ConstraintViolationException ex, WebRequest request) {
+    public ResponseEntity<?> handleConstraintViolationException(ConstraintViolationException ex) {
         List<String> errors = new ArrayList<>();
         ex.getConstraintViolations().forEach(cv -> errors.add(cv.getMessage()));
         Map<String, List<String>> result = new HashMap<>();
         result.put("errors", errors);
         return new ResponseEntity<>(result, HttpStatus.BAD_REQUEST);
     }
+
+    private Map<String, String> fieldErrors(BindingResult bindingResult) {
+        Map<String, String> errors = new HashMap<>();
+        bindingResult.getAllErrors().forEach((error) -> {
+            String fieldName = ((FieldError) error).getField();
+            String errorMessage = error.getDefaultMessage();
+            errors.put(fieldName, errorMessage);
+        });
+        return errors;
+    }
 }
@@ -0,0 +1,480 @@
+package com.example.rqchallenge.index;
+
+import com.example.rqchallenge.model.Employee;
+import com.example.rqchallenge.model.EmployeeField;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Immutable employee roster stored column by column in primitive arrays, with names and profile images
+ * dictionary-encoded. Queries run over the columns and only the rows they return are materialized as
+ * {@link Employee} objects. Missing values are kept as sentinels: {@code Long.MIN_VALUE} ids, {@code NaN} salaries,
+ * {@code Integer.MIN_VALUE} ages and {@code -1} dictionary codes.
+ * <p>
+ * Columns and dictionaries may be longer than the table. {@link #withRow} writes past the end of the table it is
+ * called on and shares the arrays with the result, which only ever reads its own prefix of them. Each set of arrays
+ * counts the slots handed out so far, so only the table ending where that count ends appends in place; any other
+ * copies first, with spare capacity for the appends that follow.
+ */
+public class EmployeeTable {
+
+    private static final long NO_ID = Long.MIN_VALUE;
+    private static final int NO_AGE = Integer.MIN_VALUE;
+    private static final int NO_CODE = -1;
+
+    private final long[] ids;
+    private final double[] salaries;
+    private final int[] ages;
+    private final int[] nameCodes;
+    private final int[] imageCodes;
+    private final int size;
+    private final AtomicInteger rowSlots;
+    private final String[] names;
+    private final int nameCount;
+    private final AtomicInteger nameSlots;
+    private final String[] images;
+    private final int imageCount;
+    private final AtomicInteger imageSlots;
+    // Lets id lookups binary search, which they can for the upstream roster as it comes back ordered by id
+    private final boolean idsAscending;
+    private final List<Employee> rows = new RowList();
+
+    private EmployeeTable(long[] ids, double[] salaries, int[] ages, int[] nameCodes, String[] names, int[] imageCodes,
+                          String[] images, boolean idsAscending) {
+        this(ids, salaries, ages, nameCodes, imageCodes, ids.length, new AtomicInteger(ids.length),
+                names, names.length, new AtomicInteger(names.length),
+                images, images.length, new AtomicInteger(images.length), idsAscending);
+    }
+
+    private EmployeeTable(long[] ids, double[] salaries, int[] ages, int[] nameCodes, int[] imageCodes, int size,
+                          AtomicInteger rowSlots, String[] names, int nameCount, AtomicInteger nameSlots,
+                          String[] images, int imageCount, AtomicInteger imageSlots, boolean idsAscending) {
+        this.ids = ids;
+        this.salaries = salaries;
+        this.ages = ages;
+        this.nameCodes = nameCodes;
+        this.imageCodes = imageCodes;
+        this.size = size;
+        this.rowSlots = rowSlots;
+        this.names = names;
+        this.nameCount = nameCount;
+        this.nameSlots = nameSlots;
+        this.images = images;
+        this.imageCount = imageCount;
+        this.imageSlots = imageSlots;
+        this.idsAscending = idsAscending;
+    }
+
+    public static EmployeeTable of(List<Employee> employees) {
+        Builder builder = new Builder(employees.size(), new Dictionary(), new Dictionary());
+        for (Employee employee : employees) {
+            builder.add(employee);
+        }
+        return builder.build();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean hasSalary(int row) {
+        return !Double.isNaN(salaries[row]);
+    }
+
+    public double salary(int row) {
+        return salaries[row];
+    }
+
+    public String name(int row) {
+        return decode(names, nameCodes[row]);
+    }
+
+    public int nameCode(int row) {
+        return nameCodes[row];
+    }
+
+    public String[] nameDictionary() {
+        return Arrays.copyOf(names, nameCount);
+    }
+
+    public Employee row(int row) {
+        return Employee.builder()
+                .id(ids[row] == NO_ID ? null : ids[row])
+                .employeeName(name(row))
+                .employeeSalary(hasSalary(row) ? salaries[row] : null)
+                .employeeAge(ages[row] == NO_AGE ? null : ages[row])
+                .profileImage(decode(images, imageCodes[row]))
+                .build();
+    }
+
+    // Read-only view that materializes each row as it is read
+    public List<Employee> rows() {
+        return rows;
+    }
+
+    public int rowOf(long id) {
+        if (idsAscending) {
+            int row = Arrays.binarySearch(ids, 0, size, id);
+            return row < 0 ? -1 : row;
+        }
+        for (int row = 0; row < size; row++) {
+            if (ids[row] == id && id != NO_ID) return row;
+        }
+        return -1;
+    }
+
+    public boolean hasId(int row, long id) {
+        return id != NO_ID && ids[row] == id;
+    }
+
+    // Whether the row holds exactly the employee's values
+    public boolean matches(int row, Employee employee) {
+        return ids[row] == (null == employee.getId() ? NO_ID : employee.getId())
+                && Double.compare(salaries[row], null == employee.getEmployeeSalary() ? Double.NaN : employee.getEmployeeSalary()) == 0
+                && ages[row] == (null == employee.getEmployeeAge() ? NO_AGE : employee.getEmployeeAge())
+                && Objects.equals(name(row), employee.getEmployeeName())
+                && Objects.equals(decode(images, imageCodes[row]), employee.getProfileImage());
+    }
+
+    public boolean hasValue(EmployeeField field, int row) {
+        return switch (field) {
+            case ID -> ids[row] != NO_ID;
+            case EMPLOYEE_NAME -> nameCodes[row] != NO_CODE;
+            case EMPLOYEE_SALARY -> hasSalary(row);
+            case EMPLOYEE_AGE -> ages[row] != NO_AGE;
+            case PROFILE_IMAGE -> imageCodes[row] != NO_CODE;
+        };
+    }
+
+    // Orders rows that have a value for the field, see hasValue
+    public Comparator<Integer> rowComparator(EmployeeField field) {
+        return switch (field) {
+            case ID -> (left, right) -> Long.compare(ids[left], ids[right]);
+            case EMPLOYEE_NAME -> (left, right) -> names[nameCodes[left]].compareTo(names[nameCodes[right]]);
+            case EMPLOYEE_SALARY -> (left, right) -> Double.compare(salaries[left], salaries[right]);
+            case EMPLOYEE_AGE -> (left, right) -> Integer.compare(ages[left], ages[right]);
+            case PROFILE_IMAGE -> (left, right) -> images[imageCodes[left]].compareTo(images[imageCodes[right]]);
+        };
+    }
+
+    // Appended names get their own dictionary entry rather than a search for an existing one
+    public EmployeeTable withRow(Employee employee) {
+        long id = null == employee.getId() ? NO_ID : employee.getId();
+        boolean inPlace = size < ids.length && rowSlots.compareAndSet(size, size + 1);
+        int capacity = inPlace ? ids.length : grow(size);
+        long[] updatedIds = inPlace ? ids : Arrays.copyOf(ids, capacity);
+        double[] updatedSalaries = inPlace ? salaries : Arrays.copyOf(salaries, capacity);
+        int[] updatedAges = inPlace ? ages : Arrays.copyOf(ages, capacity);
+        int[] updatedNameCodes = inPlace ? nameCodes : Arrays.copyOf(nameCodes, capacity);
+        int[] updatedImageCodes = inPlace ? imageCodes : Arrays.copyOf(imageCodes, capacity);
+        updatedIds[size] = id;
+        updatedSalaries[size] = null == employee.getEmployeeSalary() ? Double.NaN : employee.getEmployeeSalary();
+        updatedAges[size] = null == employee.getEmployeeAge() ? NO_AGE : employee.getEmployeeAge();
+
+        String[] updatedNames = names;
+        AtomicInteger updatedNameSlots = nameSlots;
+        int updatedNameCount = nameCount;
+        if (null == employee.getEmployeeName()) {
+            updatedNameCodes[size] = NO_CODE;
+        } else {
+            if (nameCount == names.length || !nameSlots.compareAndSet(nameCount, nameCount + 1)) {
+                updatedNames = Arrays.copyOf(names, grow(nameCount));
+                updatedNameSlots = new AtomicInteger(nameCount + 1);
+            }
+            updatedNames[nameCount] = employee.getEmployeeName();
+            updatedNameCodes[size] = nameCount;
+            updatedNameCount++;
+        }
+        String[] updatedImages = images;
+        AtomicInteger updatedImageSlots = imageSlots;
+        int updatedImageCount = imageCount;
+        if (null == employee.getProfileImage()) {
+            updatedImageCodes[size] = NO_CODE;
+        } else {
+            if (imageCount == images.length || !imageSlots.compareAndSet(imageCount, imageCount + 1)) {
+                updatedImages = Arrays.copyOf(images, grow(imageCount));
+                updatedImageSlots = new AtomicInteger(imageCount + 1);
+            }
+            updatedImages[imageCount] = employee.getProfileImage();
+            updatedImageCodes[size] = imageCount;
+            updatedImageCount++;
+        }
+        boolean ascending = idsAscending && id != NO_ID && (size == 0 || id > ids[size - 1]);
+        return new EmployeeTable(updatedIds, updatedSalaries, updatedAges, updatedNameCodes, updatedImageCodes, size + 1,
+                inPlace ? rowSlots : new AtomicInteger(size + 1), updatedNames, updatedNameCount, updatedNameSlots,
+                updatedImages, updatedImageCount, updatedImageSlots, ascending);
+    }
+
+    public EmployeeTable withoutRow(int row) {
+        return new EmployeeTable(remove(ids, size, row), remove(salaries, size, row), remove(ages, size, row),
+                remove(nameCodes, size, row), remove(imageCodes, size, row), size - 1, new AtomicInteger(size - 1),
+                names, nameCount, nameSlots, images, imageCount, imageSlots, idsAscending);
+    }
+
+    /**
+     * Applies a batch of changes with a single copy of the columns. Replaced rows stay where they are, removed rows
+     * close up and appended rows go at the end. Kept rows keep their dictionary codes, so only names and images new
+     * to the table are encoded; once entries no row uses could outnumber the rows, the dictionaries are rebuilt.
+     */
+    public EmployeeTable withChanges(Map<Integer, Employee> replaced, BitSet removed, List<Employee> appended) {
+        int changedSize = size - removed.cardinality() + appended.size();
+        Builder builder = new Builder(changedSize, new Dictionary(names, nameCount), new Dictionary(images, imageCount));
+        for (int row = 0; row < size; row++) {
+            if (removed.get(row)) continue;
+            Employee replacement = replaced.get(row);
+            if (null == replacement) {
+                builder.copy(this, row);
+            } else {
+                builder.add(replacement);
+            }
+        }
+        for (Employee employee : appended) {
+            builder.add(employee);
+        }
+        EmployeeTable changed = builder.build();
+        if (changed.nameCount > 2 * changedSize + 64 || changed.imageCount > 2 * changedSize + 64) {
+            return of(changed.rows());
+        }
+        return changed;
+    }
+
+    // Length-prefixed UTF-8, counted without encoding so the buffer can be sized before anything is written
+    public long serializedSize() {
+        long columnsSize = Integer.BYTES + 1 + (long) size * (Long.BYTES + Double.BYTES + 3 * Integer.BYTES);
+        return columnsSize + dictionarySize(names, nameCount) + dictionarySize(images, imageCount);
+    }
+
+    /**
+     * Writes the columns as they are held in memory: row count, the ids ascending flag, ids, salaries, ages, name
+     * codes and image codes, then both dictionaries. {@link #readFrom} copies them back in bulk without parsing rows.
+     */
+    public void writeTo(ByteBuffer buffer) {
+        buffer.putInt(size);
+        buffer.put((byte) (idsAscending ? 1 : 0));
+        buffer.asLongBuffer().put(ids, 0, size);
+        buffer.position(buffer.position() + size * Long.BYTES);
+        buffer.asDoubleBuffer().put(salaries, 0, size);
+        buffer.position(buffer.position() + size * Double.BYTES);
+        for (int[] column : new int[][]{ages, nameCodes, imageCodes}) {
+            buffer.asIntBuffer().put(column, 0, size);
+            buffer.position(buffer.position() + size * Integer.BYTES);
+        }
+        writeDictionary(buffer, names, nameCount);
+        writeDictionary(buffer, images, imageCount);
+    }
+
+    public static EmployeeTable readFrom(ByteBuffer buffer) {
+        int size = checkLength(buffer, buffer.getInt(), Long.BYTES + Double.BYTES + 3 * Integer.BYTES);
+        boolean idsAscending = buffer.get() == 1;
+        long[] ids = new long[size];
+        buffer.asLongBuffer().get(ids);
+        buffer.position(buffer.position() + size * Long.BYTES);
+        double[] salaries = new double[size];
+        buffer.asDoubleBuffer().get(salaries);
+        buffer.position(buffer.position() + size * Double.BYTES);
+        int[][] intColumns = new int[3][size];
+        for (int[] column : intColumns) {
+            buffer.asIntBuffer().get(column);
+            buffer.position(buffer.position() + size * Integer.BYTES);
+        }
+        String[] names = readDictionary(buffer);
+        String[] images = readDictionary(buffer);
+        checkCodes(intColumns[1], names.length);
+        checkCodes(intColumns[2], images.length);
+        return new EmployeeTable(ids, salaries, intColumns[0], intColumns[1], names, intColumns[2], images, idsAscending);
+    }
+
+    private static long dictionarySize(String[] dictionary, int count) {
+        long size = Integer.BYTES;
+        for (int code = 0; code < count; code++) {
+            size += Integer.BYTES + utf8Length(dictionary[code]);
+        }
+        return size;
+    }
+
+    private static int utf8Length(String value) {
+        int length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                length += 1;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length() && Character.isLowSurrogate(value.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    private static void writeDictionary(ByteBuffer buffer, String[] dictionary, int count) {
+        buffer.putInt(count);
+        for (int code = 0; code < count; code++) {
+            byte[] bytes = dictionary[code].getBytes(StandardCharsets.UTF_8);
+            buffer.putInt(bytes.length);
+            buffer.put(bytes);
+        }
+    }
+
+    private static String[] readDictionary(ByteBuffer buffer) {
+        String[] dictionary = new String[checkLength(buffer, buffer.getInt(), Integer.BYTES)];
+        for (int code = 0; code < dictionary.length; code++) {
+            byte[] bytes = new byte[checkLength(buffer, buffer.getInt(), 1)];
+            buffer.get(bytes);
+            dictionary[code] = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return dictionary;
+    }
+
+    // Stops a corrupt length from allocating more than the buffer could possibly hold
+    private static int checkLength(ByteBuffer buffer, int length, int bytesPerElement) {
+        if (length < 0 || (long) length * bytesPerElement > buffer.remaining()) {
+            throw new IllegalArgumentException("Length " + length + " does not fit the remaining " + buffer.remaining() + " bytes");
+        }
+        return length;
+    }
+
+    // A code outside its dictionary would only fail when the row is read, so a bad file is rejected up front
+    private static void checkCodes(int[] codes, int dictionarySize) {
+        for (int code : codes) {
+            if (code < NO_CODE || code >= dictionarySize) {
+                throw new IllegalArgumentException("Dictionary code " + code + " is out of range");
+            }
+        }
+    }
+
+    // Half as much again, so a run of appends copies the columns a logarithmic number of times
+    private static int grow(int length) {
+        return length + (length >> 1) + 1;
+    }
+
+    private static String decode(String[] dictionary, int code) {
+        return code == NO_CODE ? null : dictionary[code];
+    }
+
+    private static long[] remove(long[] column, int size, int row) {
+        long[] updated = new long[size - 1];
+        System.arraycopy(column, 0, updated, 0, row);
+        System.arraycopy(column, row + 1, updated, row, updated.length - row);
+        return updated;
+    }
+
+    private static double[] remove(double[] column, int size, int row) {
+        double[] updated = new double[size - 1];
+        System.arraycopy(column, 0, updated, 0, row);
+        System.arraycopy(column, row + 1, updated, row, updated.length - row);
+        return updated;
+    }
+
+    private static int[] remove(int[] column, int size, int row) {
+        int[] updated = new int[size - 1];
+        System.arraycopy(column, 0, updated, 0, row);
+        System.arraycopy(column, row + 1, updated, row, updated.length - row);
+        return updated;
+    }
+
+    private static class Dictionary {
+        private final Map<String, Integer> codes = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+
+        Dictionary() {
+        }
+
+        // Seeded entries keep their codes, including any value withRow appended more than once
+        Dictionary(String[] seed, int count) {
+            for (int code = 0; code < count; code++) {
+                String value = seed[code];
+                codes.putIfAbsent(value, values.size());
+                values.add(value);
+            }
+        }
+
+        int encode(String value) {
+            if (null == value) return NO_CODE;
+            return codes.computeIfAbsent(value, key -> {
+                values.add(key);
+                return values.size() - 1;
+            });
+        }
+
+        String[] values() {
+            return values.toArray(new String[0]);
+        }
+    }
+
+    private static class Builder {
+        private final long[] ids;
+        private final double[] salaries;
+        private final int[] ages;
+        private final int[] nameCodes;
+        private final int[] imageCodes;
+        private final Dictionary names;
+        private final Dictionary images;
+        private int size;
+        private boolean idsAscending = true;
+
+        Builder(int capacity, Dictionary names, Dictionary images) {
+            this.ids = new long[capacity];
+            this.salaries = new double[capacity];
+            this.ages = new int[capacity];
+            this.nameCodes = new int[capacity];
+            this.imageCodes = new int[capacity];
+            this.names = names;
+            this.images = images;
+        }
+
+        void add(Employee employee) {
+            append(null == employee.getId() ? NO_ID : employee.getId(),
+                    null == employee.getEmployeeSalary() ? Double.NaN : employee.getEmployeeSalary(),
+                    null == employee.getEmployeeAge() ? NO_AGE : employee.getEmployeeAge(),
+                    names.encode(employee.getEmployeeName()), images.encode(employee.getProfileImage()));
+        }
+
+        // Only valid when the dictionaries were seeded from the source table
+        void copy(EmployeeTable source, int row) {
+            append(source.ids[row], source.salaries[row], source.ages[row], source.nameCodes[row], source.imageCodes[row]);
+        }
+
+        private void append(long id, double salary, int age, int nameCode, int imageCode) {
+            if (id == NO_ID || (size > 0 && id <= ids[size - 1])) idsAscending = false;
+            ids[size] = id;
+            salaries[size] = salary;
+            ages[size] = age;
+            nameCodes[size] = nameCode;
+            imageCodes[size] = imageCode;
+            size++;
+        }
+
+        EmployeeTable build() {
+            return new EmployeeTable(ids, salaries, ages, nameCodes, names.values(), imageCodes, images.values(), idsAscending);
+        }
+    }
+
+    private class RowList extends AbstractList<Employee> implements RandomAccess {
+
+        @Override
+        public Employee get(int index) {
+            return row(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.example.rqchallenge.index;
+
+import com.example.rqchallenge.model.Employee;
+import com.example.rqchallenge.model.NameSearchMode;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+/**
+ * Immutable trigram index over employee names. Names and queries are folded to lower case one char at a time, so a
+ * name containing the query always shares its trigrams; candidates are then checked against the real predicate.
+ * Only matching rows are materialized as employees.
+ */
+public class NameSearchIndex {
+
+    private static final int[] NO_POSTINGS = new int[0];
+
+    private final IntFunction<Employee> rows;
+    private final IntFunction<String> names;
+    private final String[] foldedNames;
+    private final Map<Long, int[]> postings;
+    private final int[] prefixOrder;
+
+    private NameSearchIndex(IntFunction<Employee> rows, IntFunction<String> names, String[] foldedNames,
+                            Map<Long, int[]> postings, int[] prefixOrder) {
+        this.rows = rows;
+        this.names = names;
+        this.foldedNames = foldedNames;
+        this.postings = postings;
+        this.prefixOrder = prefixOrder;
+    }
+
+    public static NameSearchIndex build(List<Employee> employees) {
+        String[] foldedNames = new String[employees.size()];
+        for (int position = 0; position < foldedNames.length; position++) {
+            String name = employees.get(position).getEmployeeName();
+            if (null != name) foldedNames[position] = fold(name);
+        }
+        return build(employees::get, position -> employees.get(position).getEmployeeName(), foldedNames);
+    }
+
+    // Names are folded once per dictionary entry, so rows sharing a name share the folded string too
+    public static NameSearchIndex build(EmployeeTable table) {
+        String[] foldedDictionary = table.nameDictionary();
+        for (int code = 0; code < foldedDictionary.length; code++) {
+            foldedDictionary[code] = fold(foldedDictionary[code]);
+        }
+        String[] foldedNames = new String[table.size()];
+        for (int row = 0; row < foldedNames.length; row++) {
+            int code = table.nameCode(row);
+            if (code >= 0) foldedNames[row] = foldedDictionary[code];
+        }
+        return build(table::row, table::name, foldedNames);
+    }
+
+    private static NameSearchIndex build(IntFunction<Employee> rows, IntFunction<String> names, String[] foldedNames) {
+        Map<Long, PostingList> builders = new HashMap<>();
+        for (int position = 0; position < foldedNames.length; position++) {
+            String folded = foldedNames[position];
+            if (null == folded) continue;
+            for (int i = 0; i + 3 <= folded.length(); i++) {
+                builders.computeIfAbsent(trigram(folded, i), key -> new PostingList()).add(position);
+            }
+        }
+        Map<Long, int[]> postings = new HashMap<>(builders.size() * 4 / 3 + 1);
+        builders.forEach((key, postingList) -> postings.put(key, postingList.toArray()));
+
+        int[] prefixOrder = new int[foldedNames.length];
+        int named = 0;
+        for (int position = 0; position < foldedNames.length; position++) {
+            if (null != foldedNames[position]) prefixOrder[named++] = position;
+        }
+        prefixOrder = Arrays.stream(prefixOrder, 0, named).boxed()
+                .sorted(Comparator.comparing((Integer position) -> foldedNames[position]).thenComparing(position -> position))
+                .mapToInt(Integer::intValue)
+                .toArray();
+        return new NameSearchIndex(rows, names, foldedNames, postings, prefixOrder);
+    }
+
+    public List<Employee> search(String searchString, NameSearchMode mode, boolean ignoreCase) {
+        return mode == NameSearchMode.PREFIX
+                ? prefixSearch(searchString, ignoreCase)
+                : containsSearch(searchString, ignoreCase);
+    }
+
+    private List<Employee> containsSearch(String searchString, boolean ignoreCase) {
+        String folded = fold(searchString);
+        List<Employee> matches = new ArrayList<>();
+        if (folded.length() < 3) {
+            for (int position = 0; position < foldedNames.length; position++) {
+                if (matchesContains(position, searchString, folded, ignoreCase)) matches.add(rows.apply(position));
+            }
+            return matches;
+        }
+        int[] candidates = null;
+        for (int i = 0; i + 3 <= folded.length(); i++) {
+            int[] postingList = postings.getOrDefault(trigram(folded, i), NO_POSTINGS);
+            if (null == candidates || postingList.length < candidates.length) candidates = postingList;
+        }
+        for (int position : candidates) {
+            if (matchesContains(position, searchString, folded, ignoreCase)) matches.add(rows.apply(position));
+        }
+        return matches;
+    }
+
+    private List<Employee> prefixSearch(String searchString, boolean ignoreCase) {
+        String folded = fold(searchString);
+        int low = 0;
+        int high = prefixOrder.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (foldedNames[prefixOrder[mid]].compareTo(folded) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        int end = low;
+        while (end < prefixOrder.length && foldedNames[prefixOrder[end]].startsWith(folded)) end++;
+
+        int[] positions = Arrays.copyOfRange(prefixOrder, low, end);
+        Arrays.sort(positions);
+        List<Employee> matches = new ArrayList<>();
+        for (int position : positions) {
+            if (ignoreCase || names.apply(position).startsWith(searchString)) {
+                matches.add(rows.apply(position));
+            }
+        }
+        return matches;
+    }
+
+    private boolean matchesContains(int position, String searchString, String folded, boolean ignoreCase) {
+        if (null == foldedNames[position]) return false;
+        return ignoreCase
+                ? foldedNames[position].contains(folded)
+                : names.apply(position).contains(searchString);
+    }
+
+    private static String fold(String value) {
+        char[] chars = value.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(chars[i]);
+        }
+        return new String(chars);
+    }
+
+    private static long trigram(String value, int offset) {
+        return ((long) value.charAt(offset) << 32) | ((long) value.charAt(offset + 1) << 16) | value.charAt(offset + 2);
+    }
+
+    private static class PostingList {
+        private int[] positions = new int[4];
+        private int size;
+
+        void add(int position) {
+            // A name repeating a trigram would otherwise list the same position twice
+            if (size > 0 && positions[size - 1] == position) return;
+            if (size == positions.length) positions = Arrays.copyOf(positions, size * 2);
+            positions[size++] = position;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(positions, size);
+        }
+    }
+}
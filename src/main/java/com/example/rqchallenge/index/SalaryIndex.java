@@ -0,0 +1,178 @@
+package com.example.rqchallenge.index;
+
+import com.example.rqchallenge.model.Employee;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.OptionalDouble;
+import java.util.PriorityQueue;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.Supplier;
+
+/**
+ * Immutable top earners of an employee snapshot, ordered by salary descending and then by roster position so that
+ * ties come back in the same order a stable sort of the roster would give.
+ */
+public class SalaryIndex {
+
+    public static final int DEFAULT_CAPACITY = 64;
+
+    private static final Comparator<Entry> HIGHEST_FIRST = Comparator.comparingDouble(Entry::salary).reversed()
+            .thenComparingLong(Entry::sequence);
+
+    private final int capacity;
+    private final Entry[] top;
+    private final int salariedCount;
+    private final long nextSequence;
+
+    private SalaryIndex(int capacity, Entry[] top, int salariedCount, long nextSequence) {
+        this.capacity = capacity;
+        this.top = top;
+        this.salariedCount = salariedCount;
+        this.nextSequence = nextSequence;
+    }
+
+    public static SalaryIndex build(List<Employee> employees) {
+        return build(employees, DEFAULT_CAPACITY);
+    }
+
+    public static SalaryIndex build(List<Employee> employees, int capacity) {
+        return build(employees.size(), position -> null != employees.get(position).getEmployeeSalary(),
+                position -> employees.get(position).getEmployeeSalary(), employees::get, capacity);
+    }
+
+    public static SalaryIndex build(EmployeeTable table) {
+        return build(table, DEFAULT_CAPACITY);
+    }
+
+    public static SalaryIndex build(EmployeeTable table, int capacity) {
+        return build(table.size(), table::hasSalary, table::salary, table::row, capacity);
+    }
+
+    // Rows are only materialized once they make it into the top earners
+    private static SalaryIndex build(int size, IntPredicate salaried, IntToDoubleFunction salaries,
+                                     IntFunction<Employee> rows, int capacity) {
+        PriorityQueue<Entry> heap = new PriorityQueue<>(capacity + 1, HIGHEST_FIRST.reversed());
+        int salariedCount = 0;
+        for (int position = 0; position < size; position++) {
+            if (!salaried.test(position)) continue;
+            salariedCount++;
+            double salary = salaries.applyAsDouble(position);
+            // A later row tying the lowest kept salary would rank below it, so it is not kept either
+            if (heap.size() == capacity && (capacity == 0 || salary <= heap.peek().salary())) continue;
+            heap.offer(new Entry(rows.apply(position), salary, position + 1L));
+            if (heap.size() > capacity) heap.poll();
+        }
+        Entry[] top = heap.toArray(new Entry[0]);
+        Arrays.sort(top, HIGHEST_FIRST);
+        return new SalaryIndex(capacity, top, salariedCount, size + 1L);
+    }
+
+    public OptionalDouble getHighestSalary() {
+        return top.length == 0 ? OptionalDouble.empty() : OptionalDouble.of(top[0].salary());
+    }
+
+    public List<Employee> getTopEarners(int limit) {
+        int count = Math.min(limit, top.length);
+        List<Employee> earners = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            earners.add(top[i].employee());
+        }
+        return earners;
+    }
+
+    public SalaryIndex withEmployee(Employee employee) {
+        long sequence = nextSequence;
+        if (null == employee.getEmployeeSalary()) {
+            return new SalaryIndex(capacity, top, salariedCount, sequence + 1);
+        }
+        Entry entry = new Entry(employee, employee.getEmployeeSalary(), sequence);
+        int position = insertionPoint(entry);
+        // Past the last kept entry it may still rank below salaried employees the index no longer holds
+        if (position >= capacity || (position == top.length && top.length < salariedCount)) {
+            return new SalaryIndex(capacity, top, salariedCount + 1, sequence + 1);
+        }
+        int length = Math.min(top.length + 1, capacity);
+        Entry[] updated = new Entry[length];
+        System.arraycopy(top, 0, updated, 0, position);
+        updated[position] = entry;
+        System.arraycopy(top, position, updated, position + 1, length - position - 1);
+        return new SalaryIndex(capacity, updated, salariedCount + 1, sequence + 1);
+    }
+
+    /**
+     * Drops the employee from the index. The top earners are only rebuilt from {@code remaining} once enough of
+     * them have been removed that a top-ten query could no longer be answered from what is left.
+     */
+    public SalaryIndex withoutEmployee(Employee employee, List<Employee> remaining) {
+        return withoutEmployee(employee, () -> build(remaining, capacity));
+    }
+
+    public SalaryIndex withoutEmployee(Employee employee, EmployeeTable remaining) {
+        return withoutEmployee(employee, () -> build(remaining, capacity));
+    }
+
+    /**
+     * Removes then adds a batch of employees. Should the removals call for a rebuild, the index is rebuilt once from
+     * {@code result}, which already holds the additions.
+     */
+    public SalaryIndex withChanges(List<Employee> removed, List<Employee> added, EmployeeTable result) {
+        SalaryIndex index = this;
+        for (Employee employee : removed) {
+            index = index.withoutEmployee(employee, () -> null);
+            if (null == index) {
+                return build(result, capacity);
+            }
+        }
+        for (Employee employee : added) {
+            index = index.withEmployee(employee);
+        }
+        return index;
+    }
+
+    // Rows materialized from a table are copies, so the removed employee is matched by id as well as by identity
+    private SalaryIndex withoutEmployee(Employee employee, Supplier<SalaryIndex> rebuild) {
+        if (null == employee.getEmployeeSalary()) {
+            return this;
+        }
+        int position = -1;
+        for (int i = 0; i < top.length; i++) {
+            Employee candidate = top[i].employee();
+            if (candidate == employee || (null != employee.getId() && employee.getId().equals(candidate.getId()))) {
+                position = i;
+                break;
+            }
+        }
+        if (position < 0) {
+            return new SalaryIndex(capacity, top, salariedCount - 1, nextSequence);
+        }
+        if (top.length - 1 < capacity / 2 && salariedCount - 1 > top.length - 1) {
+            return rebuild.get();
+        }
+        Entry[] updated = new Entry[top.length - 1];
+        System.arraycopy(top, 0, updated, 0, position);
+        System.arraycopy(top, position + 1, updated, position, top.length - position - 1);
+        return new SalaryIndex(capacity, updated, salariedCount - 1, nextSequence);
+    }
+
+    private int insertionPoint(Entry entry) {
+        int low = 0;
+        int high = top.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (HIGHEST_FIRST.compare(top[mid], entry) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private record Entry(Employee employee, double salary, long sequence) {
+    }
+}
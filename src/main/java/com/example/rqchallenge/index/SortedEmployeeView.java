@@ -0,0 +1,89 @@
+package com.example.rqchallenge.index;
+
+import com.example.rqchallenge.model.Employee;
+import com.example.rqchallenge.model.EmployeeField;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Rows of an employee table sorted once by a single field. Employees without a value for the field always come
+ * last, whichever direction the view is read in, and employees with equal values keep their roster order in both.
+ * Only the rows of a requested slice are materialized.
+ */
+public class SortedEmployeeView {
+
+    private final EmployeeTable table;
+    private final EmployeeField field;
+    private final int[] sorted;
+    private final int valuedCount;
+
+    private volatile int[] descending;
+    private final ReentrantLock descendingLock = new ReentrantLock();
+
+    private SortedEmployeeView(EmployeeTable table, EmployeeField field, int[] sorted, int valuedCount) {
+        this.table = table;
+        this.field = field;
+        this.sorted = sorted;
+        this.valuedCount = valuedCount;
+    }
+
+    public static SortedEmployeeView build(EmployeeTable table, EmployeeField field) {
+        Integer[] valued = new Integer[table.size()];
+        int[] sorted = new int[table.size()];
+        int valuedCount = 0;
+        int unvaluedIndex = table.size();
+        for (int row = table.size() - 1; row >= 0; row--) {
+            if (!table.hasValue(field, row)) sorted[--unvaluedIndex] = row;
+        }
+        for (int row = 0; row < table.size(); row++) {
+            if (table.hasValue(field, row)) valued[valuedCount++] = row;
+        }
+        // A stable sort, so rows with equal values keep their roster order
+        Arrays.sort(valued, 0, valuedCount, table.rowComparator(field));
+        for (int i = 0; i < valuedCount; i++) {
+            sorted[i] = valued[i];
+        }
+        return new SortedEmployeeView(table, field, sorted, valuedCount);
+    }
+
+    public List<Employee> slice(long from, long to, boolean descending) {
+        int[] order = descending ? descendingOrder() : sorted;
+        int start = (int) Math.min(from, order.length);
+        int end = (int) Math.min(to, order.length);
+        List<Employee> slice = new ArrayList<>(Math.max(0, end - start));
+        for (int i = start; i < end; i++) {
+            slice.add(table.row(order[i]));
+        }
+        return slice;
+    }
+
+    // Sorted again by the reversed comparator rather than read backwards, which would also reverse tied rows.
+    // Built on the first descending read, the ascending order is already roster order within ties.
+    private int[] descendingOrder() {
+        int[] order = descending;
+        if (null == order) {
+            descendingLock.lock();
+            try {
+                order = descending;
+                if (null == order) {
+                    Integer[] valued = new Integer[valuedCount];
+                    for (int i = 0; i < valuedCount; i++) {
+                        valued[i] = sorted[i];
+                    }
+                    Arrays.sort(valued, table.rowComparator(field).reversed());
+                    order = sorted.clone();
+                    for (int i = 0; i < valuedCount; i++) {
+                        order[i] = valued[i];
+                    }
+                    descending = order;
+                }
+            } finally {
+                descendingLock.unlock();
+            }
+        }
+        return order;
+    }
+}
@@ -1,22 +1,58 @@
 package com.example.rqchallenge.mapper;
 
 import com.example.rqchallenge.feign.dto.EmployeeDto;
+import com.example.rqchallenge.model.CreateEmployeeRequest;
 import com.example.rqchallenge.model.Employee;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
-
 @Component
 public class EmployeeMapper implements IEmployeeMapper {
 
     public EmployeeDto maptoDto(Employee employee) {
-        return  mapToType(employee,EmployeeDto.class);
+        if (null == employee) return null;
+        return EmployeeDto.builder()
+                .id(employee.getId())
+                .employeeName(employee.getEmployeeName())
+                .employeeSalary(null != employee.getEmployeeSalary() ? employee.getEmployeeSalary() : 0d)
+                .employeeAge(null != employee.getEmployeeAge() ? employee.getEmployeeAge() : 0)
+                .profileImage(employee.getProfileImage())
+                .build();
     }
 
 
     public Employee maptoModel(EmployeeDto employeeDto) {
-        return  mapToType(employeeDto, Employee.class);
+        if (null == employeeDto) return null;
+        return Employee.builder()
+                .id(employeeDto.getId())
+                .employeeName(employeeDto.getEmployeeName())
+                .employeeSalary(employeeDto.getEmployeeSalary())
+                .employeeAge(employeeDto.getEmployeeAge())
+                .profileImage(employeeDto.getProfileImage())
+                .build();
+    }
+
+    public Employee maptoModel(CreateEmployeeRequest createEmployeeRequest) {
+        if (null == createEmployeeRequest) return null;
+        return Employee.builder()
+                .employeeName(createEmployeeRequest.getName())
+                .employeeSalary(createEmployeeRequest.getSalary())
+                .employeeAge(createEmployeeRequest.getAge())
+                .build();
+    }
+
+    // Known pairs are copied field by field, anything else still goes through the ObjectMapper
+    @Override
+    @SuppressWarnings("unchecked")
+    public <E, T> T mapToType(E entity, Class<T> type) {
+        if (entity instanceof EmployeeDto employeeDto && type == Employee.class) {
+            return (T) maptoModel(employeeDto);
+        }
+        if (entity instanceof Employee employee && type == EmployeeDto.class) {
+            return (T) maptoDto(employee);
+        }
+        if (entity instanceof CreateEmployeeRequest createEmployeeRequest && type == Employee.class) {
+            return (T) maptoModel(createEmployeeRequest);
+        }
+        return IEmployeeMapper.super.mapToType(entity, type);
     }
 }
@@ -1,10 +1,13 @@
 package com.example.rqchallenge.mapper;
 
 import com.example.rqchallenge.feign.dto.EmployeeDto;
+import com.example.rqchallenge.model.CreateEmployeeRequest;
 import com.example.rqchallenge.model.Employee;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 public interface IEmployeeMapper {
@@ -15,8 +18,14 @@ public interface IEmployeeMapper {
 
     public Employee maptoModel(EmployeeDto employeeDto);
 
+    public Employee maptoModel(CreateEmployeeRequest createEmployeeRequest);
+
     default <T> List<T> mapToModelList(List<?> entityList, Class<T> type) {
-        return entityList.stream().map(entity -> objectMapper.convertValue(entity,type)).toList();
+        List<T> models = new ArrayList<>(entityList.size());
+        for (Object entity : entityList) {
+            models.add(mapToType(entity, type));
+        }
+        return Collections.unmodifiableList(models);
     }
 
     default <E,T> T mapToType(E entity, Class<T> type) {
@@ -0,0 +1,20 @@
+package com.example.rqchallenge.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+// One line of a bulk response, index is the item's position in the request
+@Getter
+@Builder
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkItemResult {
+    private int index;
+    private String id;
+    private boolean success;
+    private Employee employee;
+    private String employeeName;
+    private String error;
+}
@@ -0,0 +1,38 @@
+package com.example.rqchallenge.model;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+public enum EmployeeField {
+    ID("id", Employee::getId, Set.of()),
+    EMPLOYEE_NAME("employeeName", Employee::getEmployeeName, Set.of("name")),
+    EMPLOYEE_SALARY("employeeSalary", Employee::getEmployeeSalary, Set.of("salary")),
+    EMPLOYEE_AGE("employeeAge", Employee::getEmployeeAge, Set.of("age")),
+    PROFILE_IMAGE("profileImage", Employee::getProfileImage, Set.of());
+
+    private final String jsonName;
+    private final Function<Employee, ? extends Comparable<?>> accessor;
+    private final Set<String> aliases;
+
+    EmployeeField(String jsonName, Function<Employee, ? extends Comparable<?>> accessor, Set<String> aliases) {
+        this.jsonName = jsonName;
+        this.accessor = accessor;
+        this.aliases = aliases;
+    }
+
+    public String getJsonName() {
+        return jsonName;
+    }
+
+    public Comparable<?> valueOf(Employee employee) {
+        return accessor.apply(employee);
+    }
+
+    public static Optional<EmployeeField> fromName(String name) {
+        return Arrays.stream(values())
+                .filter(field -> field.jsonName.equals(name) || field.aliases.contains(name))
+                .findFirst();
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.rqchallenge.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class EmployeePage {
+    private List<Employee> employees;
+    private int page;
+    private int size;
+    private long totalElements;
+}
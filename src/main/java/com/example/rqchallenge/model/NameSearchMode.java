@@ -0,0 +1,6 @@
+package com.example.rqchallenge.model;
+
+public enum NameSearchMode {
+    CONTAINS,
+    PREFIX
+}
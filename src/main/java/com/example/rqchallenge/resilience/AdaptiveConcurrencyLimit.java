@@ -0,0 +1,77 @@
+package com.example.rqchallenge.resilience;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Caps the number of requests in flight at a limit found by additive increase, multiplicative decrease. Every request
+ * completing in time while the limit is at least half used raises it by {@code 1 / limit}, about one per limit's
+ * worth of requests; a slower one multiplies it by {@code backoffRatio}. Requests admitted before the last decrease
+ * do not decrease it again, so one slow burst backs off once. Only latency is fed back, error statuses mostly
+ * reflect the upstream rather than this server's load.
+ */
+public class AdaptiveConcurrencyLimit {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private volatile double limit;
+    private long decreasedAtNanos = System.nanoTime();
+
+    public AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, Duration latencyThreshold, double backoffRatio) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+        this.backoffRatio = backoffRatio;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    public void release(long admittedAtNanos) {
+        int inFlightBeforeRelease = inFlight.getAndDecrement();
+        long now = System.nanoTime();
+        lock.lock();
+        try {
+            if (now - admittedAtNanos > latencyThresholdNanos) {
+                if (admittedAtNanos - decreasedAtNanos >= 0) {
+                    limit = Math.max(minLimit, limit * backoffRatio);
+                    decreasedAtNanos = now;
+                }
+            } else if (inFlightBeforeRelease * 2 >= limit) {
+                // A mostly idle limit says nothing about capacity, so it is only raised while in use
+                limit = Math.min(maxLimit, limit + 1 / limit);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // For requests whose duration is no measure of load, such as a long streamed response
+    public void releaseWithoutSample() {
+        inFlight.decrementAndGet();
+    }
+
+    public double getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
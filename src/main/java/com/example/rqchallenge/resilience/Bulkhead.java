@@ -0,0 +1,37 @@
+package com.example.rqchallenge.resilience;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caps the number of concurrent calls for one operation. A caller that finds it full waits at most {@code maxWait}
+ * for a slot instead of piling up behind a slow upstream.
+ */
+public class Bulkhead {
+
+    private final Semaphore permits;
+    private final long maxWaitNanos;
+
+    public Bulkhead(int maxConcurrentCalls, Duration maxWait) {
+        this.permits = new Semaphore(maxConcurrentCalls, true);
+        this.maxWaitNanos = maxWait.toNanos();
+    }
+
+    public boolean tryAcquire() {
+        try {
+            return permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    public int getAvailableConcurrentCalls() {
+        return permits.availablePermits();
+    }
+}
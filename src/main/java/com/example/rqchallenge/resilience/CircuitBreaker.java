@@ -0,0 +1,143 @@
+package com.example.rqchallenge.resilience;
+
+import com.example.rqchallenge.config.EmployeeApiResilienceProperties.CircuitBreakerSettings;
+
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Count based circuit breaker. While closed it keeps the outcome of the last {@code slidingWindowSize} calls and
+ * opens once the failure or slow call rate reaches its threshold. After {@code waitInOpenState} it lets a few trial
+ * calls through half-open, which either close it again or send it back to open.
+ */
+public class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final float failureRateThreshold;
+    private final float slowCallRateThreshold;
+    private final long slowCallNanos;
+    private final int minimumCalls;
+    private final long waitInOpenNanos;
+    private final int permittedCallsInHalfOpen;
+    private final LongSupplier nanoClock;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final boolean[] failed;
+    private final boolean[] slow;
+    private int recorded;
+    private int next;
+    private int failures;
+    private int slowCalls;
+
+    private State state = State.CLOSED;
+    private long openedAtNanos;
+    private int halfOpenPermits;
+
+    public CircuitBreaker(CircuitBreakerSettings settings) {
+        this(settings, System::nanoTime);
+    }
+
+    CircuitBreaker(CircuitBreakerSettings settings, LongSupplier nanoClock) {
+        this.failureRateThreshold = settings.getFailureRateThreshold();
+        this.slowCallRateThreshold = settings.getSlowCallRateThreshold();
+        this.slowCallNanos = settings.getSlowCallDuration().toNanos();
+        this.waitInOpenNanos = settings.getWaitInOpenState().toNanos();
+        int windowSize = Math.max(1, settings.getSlidingWindowSize());
+        this.minimumCalls = Math.min(windowSize, Math.max(1, settings.getMinimumCalls()));
+        this.permittedCallsInHalfOpen = Math.min(windowSize, Math.max(1, settings.getPermittedCallsInHalfOpenState()));
+        this.failed = new boolean[windowSize];
+        this.slow = new boolean[windowSize];
+        this.nanoClock = nanoClock;
+    }
+
+    public boolean tryAcquirePermission() {
+        lock.lock();
+        try {
+            if (state == State.OPEN) {
+                if (nanoClock.getAsLong() - openedAtNanos < waitInOpenNanos) {
+                    return false;
+                }
+                transitionTo(State.HALF_OPEN);
+            }
+            if (state == State.HALF_OPEN) {
+                if (halfOpenPermits == 0) {
+                    return false;
+                }
+                halfOpenPermits--;
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Hands back a permission that was acquired for a call that never went out
+    public void releasePermission() {
+        lock.lock();
+        try {
+            if (state == State.HALF_OPEN && halfOpenPermits < permittedCallsInHalfOpen) {
+                halfOpenPermits++;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void onResult(boolean failure, long durationNanos) {
+        lock.lock();
+        try {
+            // A call admitted before the circuit opened has nothing left to decide
+            if (state == State.OPEN) {
+                return;
+            }
+            record(failure, durationNanos >= slowCallNanos);
+            if (recorded < (state == State.HALF_OPEN ? permittedCallsInHalfOpen : minimumCalls)) {
+                return;
+            }
+            if (failures * 100f / recorded >= failureRateThreshold || slowCalls * 100f / recorded >= slowCallRateThreshold) {
+                transitionTo(State.OPEN);
+            } else if (state == State.HALF_OPEN) {
+                transitionTo(State.CLOSED);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public State getState() {
+        lock.lock();
+        try {
+            return state;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void record(boolean failure, boolean slowCall) {
+        if (recorded == failed.length) {
+            if (failed[next]) failures--;
+            if (slow[next]) slowCalls--;
+        } else {
+            recorded++;
+        }
+        failed[next] = failure;
+        slow[next] = slowCall;
+        if (failure) failures++;
+        if (slowCall) slowCalls++;
+        next = (next + 1) % failed.length;
+    }
+
+    private void transitionTo(State target) {
+        state = target;
+        recorded = 0;
+        next = 0;
+        failures = 0;
+        slowCalls = 0;
+        if (target == State.OPEN) {
+            openedAtNanos = nanoClock.getAsLong();
+        } else if (target == State.HALF_OPEN) {
+            halfOpenPermits = permittedCallsInHalfOpen;
+        }
+    }
+}
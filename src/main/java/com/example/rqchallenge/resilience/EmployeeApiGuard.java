@@ -0,0 +1,98 @@
+package com.example.rqchallenge.resilience;
+
+import com.example.rqchallenge.config.EmployeeApiResilienceProperties;
+import com.example.rqchallenge.config.EmployeeApiResilienceProperties.BulkheadSettings;
+import com.example.rqchallenge.exception.UpstreamUnavailableException;
+import com.example.rqchallenge.retry.EmployeeApiRetryPolicy;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Runs calls to the dummy API inside a per-operation {@link Bulkhead} and one {@link CircuitBreaker} shared by all
+ * operations. A retried call counts as a single outcome, so it is guarded from outside the retry interceptor.
+ * Rejected calls fail fast with {@link UpstreamUnavailableException} without reaching the upstream.
+ */
+@Component
+public class EmployeeApiGuard {
+
+    private static final UpstreamUnavailableException CIRCUIT_OPEN =
+            new UpstreamUnavailableException("Dummy API is unavailable, calls are suspended");
+    private static final UpstreamUnavailableException BULKHEAD_FULL =
+            new UpstreamUnavailableException("Too many concurrent calls to the dummy API");
+
+    private final EmployeeApiResilienceProperties resilienceProperties;
+    private final MeterRegistry meterRegistry;
+    private final CircuitBreaker circuitBreaker;
+    private final Map<String, Bulkhead> bulkheads = new ConcurrentHashMap<>();
+
+    public EmployeeApiGuard(EmployeeApiResilienceProperties resilienceProperties, MeterRegistry meterRegistry) {
+        this.resilienceProperties = resilienceProperties;
+        this.meterRegistry = meterRegistry;
+        this.circuitBreaker = resilienceProperties.getCircuitBreaker().isEnabled()
+                ? new CircuitBreaker(resilienceProperties.getCircuitBreaker())
+                : null;
+        if (null != circuitBreaker) {
+            Gauge.builder("employee.api.circuit.state", circuitBreaker, breaker -> breaker.getState().ordinal())
+                    .description("0 closed, 1 open, 2 half-open")
+                    .register(meterRegistry);
+        }
+    }
+
+    public <T> T execute(String operation, Supplier<T> call) {
+        if (null != circuitBreaker && !circuitBreaker.tryAcquirePermission()) {
+            rejected(operation, "circuit_open");
+            throw CIRCUIT_OPEN;
+        }
+        Bulkhead bulkhead = bulkheads.computeIfAbsent(operation, this::buildBulkhead);
+        if (!bulkhead.tryAcquire()) {
+            if (null != circuitBreaker) circuitBreaker.releasePermission();
+            rejected(operation, "bulkhead_full");
+            throw BULKHEAD_FULL;
+        }
+        long start = System.nanoTime();
+        boolean outcomeRecorded = false;
+        try {
+            T result = call.get();
+            outcomeRecorded = true;
+            if (null != circuitBreaker) circuitBreaker.onResult(false, System.nanoTime() - start);
+            return result;
+        } catch (RuntimeException exception) {
+            outcomeRecorded = true;
+            if (null != circuitBreaker) {
+                circuitBreaker.onResult(EmployeeApiRetryPolicy.isTransient(exception), System.nanoTime() - start);
+            }
+            throw exception;
+        } finally {
+            bulkhead.release();
+            // An Error says nothing about the upstream, so a half-open trial it ended goes to the next caller
+            if (!outcomeRecorded && null != circuitBreaker) circuitBreaker.releasePermission();
+        }
+    }
+
+    public CircuitBreaker.State getCircuitState() {
+        return null == circuitBreaker ? CircuitBreaker.State.CLOSED : circuitBreaker.getState();
+    }
+
+    private Bulkhead buildBulkhead(String operation) {
+        BulkheadSettings settings = resilienceProperties.resolveBulkhead(operation);
+        Bulkhead bulkhead = new Bulkhead(settings.getMaxConcurrentCalls(), settings.getMaxWait());
+        Gauge.builder("employee.api.bulkhead.available", bulkhead, Bulkhead::getAvailableConcurrentCalls)
+                .tag("operation", operation)
+                .register(meterRegistry);
+        return bulkhead;
+    }
+
+    private void rejected(String operation, String reason) {
+        Counter.builder("employee.api.calls.rejected")
+                .tag("operation", operation)
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.rqchallenge.resilience;
+
+import com.example.rqchallenge.config.EmployeeApiResilienceProperties;
+import com.example.rqchallenge.config.EmployeeBulkProperties;
+import com.example.rqchallenge.config.EmployeeApiResilienceProperties.RateLimiterSettings;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * One {@link RateLimiter} per dummy API operation, built on first use from {@link EmployeeApiResilienceProperties}.
+ * The operations bulk requests fan out to are paced by {@link EmployeeBulkProperties#getMaxRequestsPerSecond()}
+ * already, so unless given a rate of their own they start at that rate; the shared default would silently cap it.
+ */
+@Component
+public class EmployeeApiRateLimiters {
+
+    private static final Set<String> BULK_OPERATIONS = Set.of("createEmployee", "deleteEmployeeById");
+
+    private final EmployeeApiResilienceProperties resilienceProperties;
+    private final EmployeeBulkProperties bulkProperties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Optional<RateLimiter>> rateLimiters = new ConcurrentHashMap<>();
+
+    public EmployeeApiRateLimiters(EmployeeApiResilienceProperties resilienceProperties, EmployeeBulkProperties bulkProperties,
+                                   MeterRegistry meterRegistry) {
+        this.resilienceProperties = resilienceProperties;
+        this.bulkProperties = bulkProperties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    // Empty when the operation is not rate limited
+    public Optional<RateLimiter> forOperation(String operation) {
+        return rateLimiters.computeIfAbsent(operation, this::buildRateLimiter);
+    }
+
+    public void rejected(String operation) {
+        Counter.builder("employee.api.calls.rejected")
+                .tag("operation", operation)
+                .tag("reason", "rate_limited")
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private Optional<RateLimiter> buildRateLimiter(String operation) {
+        RateLimiterSettings settings = resilienceProperties.resolveRateLimiter(operation);
+        if (!settings.getEnabled()) {
+            return Optional.empty();
+        }
+        RateLimiter rateLimiter = new RateLimiter(permitsPerSecond(operation, settings), settings.getMinPermitsPerSecond(),
+                settings.getBurst(), settings.getMaxWait());
+        Gauge.builder("employee.api.rate.limit", rateLimiter, RateLimiter::getPermitsPerSecond)
+                .description("Calls per second currently allowed, after adapting to throttling by the upstream")
+                .tag("operation", operation)
+                .register(meterRegistry);
+        return Optional.of(rateLimiter);
+    }
+
+    private double permitsPerSecond(String operation, RateLimiterSettings settings) {
+        RateLimiterSettings override = resilienceProperties.getRateLimiters().get(operation);
+        if (!BULK_OPERATIONS.contains(operation) || (null != override && null != override.getPermitsPerSecond())) {
+            return settings.getPermitsPerSecond();
+        }
+        return Math.max(settings.getPermitsPerSecond(), bulkProperties.getMaxRequestsPerSecond());
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.rqchallenge.resilience;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Token bucket pacing the calls of one operation. Tokens accrue at the current rate up to {@code burst}, so an idle
+ * operation may start a short burst while a busy one is spaced out evenly; a burst of 1 paces every call. A caller
+ * reserves the next token and waits for it outside the lock, unless that would take longer than {@code maxWait}.
+ * <p>
+ * The rate adapts to the upstream: a throttled call halves it, down to {@code minPermitsPerSecond}, and every
+ * successful call wins back a two hundredth of the configured rate. A Retry-After holds every call until it passes.
+ */
+public class RateLimiter {
+
+    private static final double DECREASE_FACTOR = 0.5d;
+    private static final double RECOVERY_STEPS = 200d;
+
+    private final double maxRate;
+    private final double minRate;
+    private final double burst;
+    private final long maxWaitNanos;
+    // Not a monitor, so waiting callers do not pin a virtual thread's carrier
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private double rate;
+    private double tokens;
+    private long refilledAtNanos;
+    private long blockedUntilNanos;
+    private long decreasedAtNanos;
+
+    public RateLimiter(double permitsPerSecond, double minPermitsPerSecond, int burst, Duration maxWait) {
+        this.maxRate = permitsPerSecond;
+        this.minRate = Math.min(minPermitsPerSecond, permitsPerSecond);
+        this.burst = Math.max(1, burst);
+        this.maxWaitNanos = maxWait.toNanos();
+        this.rate = permitsPerSecond;
+        this.tokens = this.burst;
+        this.refilledAtNanos = System.nanoTime();
+        this.blockedUntilNanos = refilledAtNanos;
+        this.decreasedAtNanos = refilledAtNanos;
+    }
+
+    public boolean tryAcquire() {
+        long waitNanos;
+        lock.lock();
+        try {
+            long now = System.nanoTime();
+            refill(now);
+            long tokenWaitNanos = tokens >= 1 ? 0L : (long) ((1 - tokens) / rate * TimeUnit.SECONDS.toNanos(1));
+            waitNanos = Math.max(0L, blockedUntilNanos - now) + tokenWaitNanos;
+            if (waitNanos > maxWaitNanos) {
+                return false;
+            }
+            tokens -= 1;
+        } finally {
+            lock.unlock();
+        }
+        if (waitNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public void onSuccess() {
+        lock.lock();
+        try {
+            refill(System.nanoTime());
+            rate = Math.min(maxRate, rate + maxRate / RECOVERY_STEPS);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Backs off after the upstream throttled a call sent at {@code sentAtNanos}. Calls that were already in flight
+     * when the rate was last cut do not cut it again, so one burst of rejections halves it only once.
+     */
+    public void onThrottled(long sentAtNanos, long retryAfterNanos) {
+        lock.lock();
+        try {
+            long now = System.nanoTime();
+            refill(now);
+            if (sentAtNanos - decreasedAtNanos >= 0) {
+                rate = Math.max(minRate, rate * DECREASE_FACTOR);
+                decreasedAtNanos = now;
+            }
+            tokens = Math.min(tokens, 0d);
+            if (retryAfterNanos > 0 && now + retryAfterNanos - blockedUntilNanos > 0) {
+                blockedUntilNanos = now + retryAfterNanos;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public double getPermitsPerSecond() {
+        lock.lock();
+        try {
+            return rate;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // No tokens accrue while calls are held by a Retry-After
+    private void refill(long now) {
+        long from = blockedUntilNanos - refilledAtNanos > 0 ? blockedUntilNanos : refilledAtNanos;
+        if (now - from > 0) {
+            tokens = Math.min(burst, tokens + (now - from) * rate / TimeUnit.SECONDS.toNanos(1));
+        }
+        if (now - refilledAtNanos > 0) {
+            refilledAtNanos = now;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.rqchallenge.retry;
+
+import com.example.rqchallenge.config.EmployeeApiRetryProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.retry.RetryCallback;
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.interceptor.RetryInterceptorBuilder;
+import org.springframework.retry.listener.RetryListenerSupport;
+import org.springframework.retry.support.RetryTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Retry interceptor referenced by the {@code @Retryable} annotations on
+ * {@link com.example.rqchallenge.feign.EmployeeApiClient}. Each client method gets its own retry template built from
+ * {@link EmployeeApiRetryProperties}, all of them drawing from one shared {@link RetryBudget}.
+ */
+@Component("employeeApiRetryInterceptor")
+public class EmployeeApiRetryInterceptor implements MethodInterceptor {
+
+    private final EmployeeApiRetryProperties retryProperties;
+    private final MeterRegistry meterRegistry;
+    private final RetryBudget retryBudget;
+    private final Map<String, MethodInterceptor> delegates = new ConcurrentHashMap<>();
+
+    public EmployeeApiRetryInterceptor(EmployeeApiRetryProperties retryProperties, MeterRegistry meterRegistry) {
+        this.retryProperties = retryProperties;
+        this.meterRegistry = meterRegistry;
+        this.retryBudget = new RetryBudget(retryProperties.getBudgetRatio(), retryProperties.getMinRetriesPerSecond());
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        return delegates.computeIfAbsent(invocation.getMethod().getName(), this::buildDelegate).invoke(invocation);
+    }
+
+    private MethodInterceptor buildDelegate(String method) {
+        EmployeeApiRetryProperties.Policy policy = retryProperties.resolve(method);
+        RetryTemplate retryTemplate = new RetryTemplate();
+        retryTemplate.setRetryPolicy(new EmployeeApiRetryPolicy(policy, retryBudget,
+                Counter.builder("employee.api.retry.budget.exhausted").tag("method", method).register(meterRegistry)));
+        retryTemplate.setBackOffPolicy(new JitteredExponentialBackOffPolicy(policy.getInitialBackoff(),
+                policy.getMaxBackoff(), policy.getMultiplier()));
+        retryTemplate.registerListener(new RetryMetricsListener(method));
+        return RetryInterceptorBuilder.stateless()
+                .retryOperations(retryTemplate)
+                .build();
+    }
+
+    private class RetryMetricsListener extends RetryListenerSupport {
+
+        private final Counter retries;
+        private final Counter recovered;
+        private final Counter exhausted;
+
+        RetryMetricsListener(String method) {
+            this.retries = Counter.builder("employee.api.retries").tag("method", method).register(meterRegistry);
+            this.recovered = Counter.builder("employee.api.retry.outcome").tag("method", method).tag("outcome", "recovered").register(meterRegistry);
+            this.exhausted = Counter.builder("employee.api.retry.outcome").tag("method", method).tag("outcome", "failed").register(meterRegistry);
+        }
+
+        @Override
+        public <T, E extends Throwable> void close(RetryContext context, RetryCallback<T, E> callback, Throwable throwable) {
+            int failures = context.getRetryCount();
+            if (failures == 0) {
+                return;
+            }
+            if (null == throwable) {
+                retries.increment(failures);
+                recovered.increment();
+            } else {
+                retries.increment(failures - 1);
+                exhausted.increment();
+            }
+        }
+    }
+}
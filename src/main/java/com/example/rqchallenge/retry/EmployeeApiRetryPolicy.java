@@ -0,0 +1,76 @@
+package com.example.rqchallenge.retry;
+
+import com.example.rqchallenge.config.EmployeeApiRetryProperties;
+import feign.FeignException;
+import feign.RetryableException;
+import io.micrometer.core.instrument.Counter;
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.RetryPolicy;
+import org.springframework.retry.context.RetryContextSupport;
+
+import java.util.Set;
+
+/**
+ * Retries a failed upstream call only when the method is idempotent, the failure is transient, any Retry-After the
+ * upstream sent fits within the maximum backoff, and the shared {@link RetryBudget} still has room.
+ */
+public class EmployeeApiRetryPolicy implements RetryPolicy {
+
+    private static final Set<Integer> RETRYABLE_STATUSES = Set.of(429, 500, 502, 503, 504);
+    private static final String RETRY_PERMITTED = "employeeApi.retryPermitted";
+
+    private final EmployeeApiRetryProperties.Policy policy;
+    private final RetryBudget retryBudget;
+    private final Counter budgetExhausted;
+
+    public EmployeeApiRetryPolicy(EmployeeApiRetryProperties.Policy policy, RetryBudget retryBudget, Counter budgetExhausted) {
+        this.policy = policy;
+        this.retryBudget = retryBudget;
+        this.budgetExhausted = budgetExhausted;
+    }
+
+    @Override
+    public boolean canRetry(RetryContext context) {
+        return null == context.getLastThrowable() || Boolean.TRUE.equals(context.getAttribute(RETRY_PERMITTED));
+    }
+
+    @Override
+    public RetryContext open(RetryContext parent) {
+        retryBudget.recordRequest();
+        return new RetryContextSupport(parent);
+    }
+
+    @Override
+    public void close(RetryContext context) {
+    }
+
+    // Decided once per failure here, since RetryTemplate asks canRetry more than once for the same failure
+    @Override
+    public void registerThrowable(RetryContext context, Throwable throwable) {
+        ((RetryContextSupport) context).registerThrowable(throwable);
+        boolean permitted = policy.getIdempotent()
+                && context.getRetryCount() < policy.getMaxAttempts()
+                && isTransient(throwable)
+                && retryAfterMillis(throwable) <= policy.getMaxBackoff().toMillis();
+        if (permitted && !retryBudget.tryAcquireRetry()) {
+            budgetExhausted.increment();
+            permitted = false;
+        }
+        context.setAttribute(RETRY_PERMITTED, permitted);
+    }
+
+    public static boolean isTransient(Throwable throwable) {
+        if (throwable instanceof RetryableException) {
+            return true;
+        }
+        return throwable instanceof FeignException feignException && RETRYABLE_STATUSES.contains(feignException.status());
+    }
+
+    // Feign's default ErrorDecoder turns any response carrying Retry-After into a RetryableException with the date set
+    static long retryAfterMillis(Throwable throwable) {
+        if (throwable instanceof RetryableException retryableException && null != retryableException.retryAfter()) {
+            return Math.max(0L, retryableException.retryAfter().getTime() - System.currentTimeMillis());
+        }
+        return -1L;
+    }
+}
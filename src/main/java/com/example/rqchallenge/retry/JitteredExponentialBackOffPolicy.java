@@ -0,0 +1,63 @@
+package com.example.rqchallenge.retry;
+
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.backoff.BackOffContext;
+import org.springframework.retry.backoff.BackOffInterruptedException;
+import org.springframework.retry.backoff.BackOffPolicy;
+import org.springframework.retry.backoff.Sleeper;
+import org.springframework.retry.backoff.ThreadWaitSleeper;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Exponential backoff with equal jitter: the n-th wait is between half and all of
+ * {@code min(maxInterval, initialInterval * multiplier^(n-1))}. A Retry-After sent by the upstream replaces the
+ * computed wait.
+ */
+public class JitteredExponentialBackOffPolicy implements BackOffPolicy {
+
+    private final long initialIntervalMillis;
+    private final long maxIntervalMillis;
+    private final double multiplier;
+    private final Sleeper sleeper;
+
+    public JitteredExponentialBackOffPolicy(Duration initialInterval, Duration maxInterval, double multiplier) {
+        this(initialInterval, maxInterval, multiplier, new ThreadWaitSleeper());
+    }
+
+    public JitteredExponentialBackOffPolicy(Duration initialInterval, Duration maxInterval, double multiplier, Sleeper sleeper) {
+        this.initialIntervalMillis = initialInterval.toMillis();
+        this.maxIntervalMillis = maxInterval.toMillis();
+        this.multiplier = multiplier;
+        this.sleeper = sleeper;
+    }
+
+    @Override
+    public BackOffContext start(RetryContext context) {
+        return new JitterContext(context);
+    }
+
+    @Override
+    public void backOff(BackOffContext backOffContext) throws BackOffInterruptedException {
+        JitterContext context = (JitterContext) backOffContext;
+        long retryAfter = EmployeeApiRetryPolicy.retryAfterMillis(context.retryContext.getLastThrowable());
+        long delay = retryAfter >= 0 ? retryAfter : jitteredDelay(context.retryContext.getRetryCount());
+        try {
+            sleeper.sleep(delay);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new BackOffInterruptedException("Thread interrupted while sleeping", exception);
+        }
+    }
+
+    long jitteredDelay(int retryCount) {
+        double exponential = initialIntervalMillis * Math.pow(multiplier, Math.max(0, retryCount - 1));
+        long cap = (long) Math.min(maxIntervalMillis, exponential);
+        long half = cap / 2;
+        return half + ThreadLocalRandom.current().nextLong(cap - half + 1);
+    }
+
+    private record JitterContext(RetryContext retryContext) implements BackOffContext {
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.rqchallenge.retry;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Token bucket shared by all upstream calls. Every call deposits {@code retryRatio} tokens and the bucket also
+ * refills at {@code minRetriesPerSecond}, while every retry withdraws a whole token. Once the bucket is empty retries
+ * stop, so a failing upstream sees at most roughly {@code 1 + retryRatio} times the original traffic.
+ */
+public class RetryBudget {
+
+    private final double retryRatio;
+    private final double minRetriesPerSecond;
+    private final double maxBalance;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private double balance;
+    private long lastRefillNanos;
+
+    public RetryBudget(double retryRatio, double minRetriesPerSecond) {
+        this.retryRatio = retryRatio;
+        this.minRetriesPerSecond = minRetriesPerSecond;
+        this.maxBalance = Math.max(1d, minRetriesPerSecond + retryRatio * 100);
+        this.balance = Math.max(1d, minRetriesPerSecond);
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    public void recordRequest() {
+        lock.lock();
+        try {
+            refill();
+            balance = Math.min(maxBalance, balance + retryRatio);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean tryAcquireRetry() {
+        lock.lock();
+        try {
+            refill();
+            if (balance < 1d) {
+                return false;
+            }
+            balance -= 1d;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        balance = Math.min(maxBalance, balance + (now - lastRefillNanos) / 1e9d * minRetriesPerSecond);
+        lastRefillNanos = now;
+    }
+}
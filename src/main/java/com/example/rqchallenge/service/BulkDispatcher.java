@@ -0,0 +1,114 @@
+package com.example.rqchallenge.service;
+
+import com.example.rqchallenge.config.EmployeeBulkProperties;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Runs the items of a bulk request on a fixed pool of {@code parallelism} threads, starting at most
+ * {@code maxRequestsPerSecond} of them per second. Results are streamed in completion order while the rest of the
+ * batch is still running; closing the stream cancels whatever has not finished.
+ */
+@Component
+public class BulkDispatcher {
+
+    private final ExecutorService executor;
+    private final long dispatchIntervalNanos;
+    private final AtomicLong nextDispatchNanos = new AtomicLong(Long.MIN_VALUE);
+
+    public BulkDispatcher(EmployeeBulkProperties bulkProperties) {
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(bulkProperties.getParallelism(), runnable -> {
+            Thread thread = new Thread(runnable, "employee-bulk-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.dispatchIntervalNanos = bulkProperties.getMaxRequestsPerSecond() > 0
+                ? (long) (TimeUnit.SECONDS.toNanos(1) / bulkProperties.getMaxRequestsPerSecond())
+                : 0L;
+    }
+
+    public <T, R> Stream<R> dispatch(List<T> items, BiFunction<Integer, T, R> task) {
+        CompletionService<R> completionService = new ExecutorCompletionService<>(executor);
+        List<Future<R>> futures = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            int index = i;
+            T item = items.get(i);
+            futures.add(completionService.submit(() -> {
+                awaitDispatchSlot();
+                return task.apply(index, item);
+            }));
+        }
+        return StreamSupport.stream(new CompletionSpliterator<>(completionService, items.size()), false)
+                .onClose(() -> futures.forEach(future -> future.cancel(true)));
+    }
+
+    // Hands out start times dispatchIntervalNanos apart, callers sleep until theirs
+    private void awaitDispatchSlot() throws InterruptedException {
+        if (dispatchIntervalNanos == 0L) {
+            return;
+        }
+        long now = System.nanoTime();
+        long slot = nextDispatchNanos.getAndAccumulate(now, (next, current) -> Math.max(next, current) + dispatchIntervalNanos);
+        long wait = Math.max(slot, now) - now;
+        if (wait > 0) {
+            TimeUnit.NANOSECONDS.sleep(wait);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static class CompletionSpliterator<R> extends Spliterators.AbstractSpliterator<R> {
+
+        private final CompletionService<R> completionService;
+        private int remaining;
+
+        // Not SIZED: count() could then answer without taking a single completion, and closing the stream would
+        // cancel items that were never waited for
+        CompletionSpliterator(CompletionService<R> completionService, int size) {
+            super(size, Spliterator.NONNULL);
+            this.completionService = completionService;
+            this.remaining = size;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super R> action) {
+            if (remaining == 0) {
+                return false;
+            }
+            try {
+                R result = completionService.take().get();
+                remaining--;
+                action.accept(result);
+                return true;
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                throw new CancellationException("Interrupted while waiting for bulk results");
+            } catch (ExecutionException exception) {
+                throw new IllegalStateException("Bulk item failed", exception.getCause());
+            }
+        }
+    }
+}
@@ -2,23 +2,38 @@ package com.example.rqchallenge.service;
 
 import com.example.rqchallenge.annotation.EnableExceptionHandling;
 import com.example.rqchallenge.annotation.EnableExecutionTimeLogging;
+import com.example.rqchallenge.cache.EmployeeSnapshot;
+import com.example.rqchallenge.cache.EmployeeSnapshotCache;
+import com.example.rqchallenge.config.EmployeeDeleteProperties;
+import com.example.rqchallenge.config.EmployeeDeleteProperties.NameResolution;
 import com.example.rqchallenge.exception.DataNotFoundException;
+import com.example.rqchallenge.exception.ExceptionTranslator;
+import com.example.rqchallenge.exception.UpstreamUnavailableException;
 import com.example.rqchallenge.feign.EmployeeApiClient;
+import com.example.rqchallenge.feign.EmployeeListStreamReader;
+import com.example.rqchallenge.feign.RequestCoalescer;
 import com.example.rqchallenge.feign.dto.EmployeeApiResponse;
-import com.example.rqchallenge.feign.dto.EmployeeListApiResponse;
 import com.example.rqchallenge.mapper.IEmployeeMapper;
+import com.example.rqchallenge.model.BulkItemResult;
 import com.example.rqchallenge.model.CreateEmployeeRequest;
 import com.example.rqchallenge.model.Employee;
+import com.example.rqchallenge.model.EmployeeField;
+import com.example.rqchallenge.model.EmployeePage;
+import com.example.rqchallenge.model.NameSearchMode;
+import com.example.rqchallenge.resilience.EmployeeApiGuard;
 import lombok.AllArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.annotation.Validated;
 
 import javax.validation.Valid;
-import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Service
+@Profile("!reactive")
 @Validated
 @AllArgsConstructor
 public class EmployeeService implements IEmployeeService{
@@ -26,32 +41,89 @@ public class EmployeeService implements IEmployeeService{
     @Autowired
     private EmployeeApiClient employeeApiClient;
 
+    @Autowired
+    private RequestCoalescer requestCoalescer;
+
+    @Autowired
+    private EmployeeApiGuard employeeApiGuard;
+
+    @Autowired
+    private EmployeeListStreamReader employeeListStreamReader;
+
     @Autowired
     private IEmployeeMapper employeeMapper;
 
+    @Autowired
+    private EmployeeSnapshotCache employeeSnapshotCache;
+
+    @Autowired
+    private BulkDispatcher bulkDispatcher;
+
+    @Autowired
+    private EmployeeDeleteProperties deleteProperties;
+
     @Override
     @EnableExecutionTimeLogging
     @EnableExceptionHandling
     public List<Employee> getAllEmployees() {
-        EmployeeListApiResponse apiResponse = employeeApiClient.getAllEmployees();
-        validateApiResponse(apiResponse);
-        return employeeMapper.mapToModelList(apiResponse.getData(), Employee.class);
+        return employeeSnapshotCache.getSnapshot().getEmployees();
+    }
+
+    @Override
+    @EnableExecutionTimeLogging
+    @EnableExceptionHandling
+    public EmployeePage getEmployeePage(int page, int size, EmployeeField sortField, boolean descending) {
+        return employeeSnapshotCache.getSnapshot().page(page, size, sortField, descending);
+    }
+
+    // Serves the cached snapshot when there is one, otherwise reads the upstream body lazily as the caller consumes it
+    @Override
+    @EnableExceptionHandling
+    public Stream<Employee> streamAllEmployees() {
+        EmployeeSnapshot cached = employeeSnapshotCache.getCachedSnapshot();
+        if (null != cached) {
+            return cached.getEmployees().stream();
+        }
+        try {
+            return employeeListStreamReader.read(employeeApiGuard.execute("streamAllEmployees", employeeApiClient::streamAllEmployees))
+                    .map(employeeMapper::maptoModel);
+        } catch (UpstreamUnavailableException exception) {
+            EmployeeSnapshot lastGood = employeeSnapshotCache.getLastGoodSnapshot();
+            if (null == lastGood) throw exception;
+            return lastGood.getEmployees().stream();
+        }
     }
 
     @Override
     @EnableExecutionTimeLogging
     @EnableExceptionHandling
     public List<Employee> getEmployeesByNameSearch(String searchString) {
-        return getAllEmployees().stream()
-                .filter(employee -> null != employee.getEmployeeName() ? employee.getEmployeeName().contains(searchString) : false)
-                .toList();
+        return getEmployeesByNameSearch(searchString, NameSearchMode.CONTAINS, false);
+    }
+
+    @Override
+    @EnableExecutionTimeLogging
+    @EnableExceptionHandling
+    public List<Employee> getEmployeesByNameSearch(String searchString, NameSearchMode mode, boolean ignoreCase) {
+        return employeeSnapshotCache.getSnapshot().getNameSearchIndex()
+                .search(searchString, mode, ignoreCase);
     }
 
     @Override
     @EnableExecutionTimeLogging
     @EnableExceptionHandling
     public Employee getEmployeeById(String id) {
-        EmployeeApiResponse apiResponse = employeeApiClient.getEmployeeById(id);
+        return fetchEmployeeById(id);
+    }
+
+    private Employee fetchEmployeeById(String id) {
+        EmployeeApiResponse apiResponse;
+        try {
+            apiResponse = requestCoalescer.execute("getEmployeeById", id,
+                    () -> employeeApiGuard.execute("getEmployeeById", () -> employeeApiClient.getEmployeeById(id)));
+        } catch (UpstreamUnavailableException exception) {
+            return findInLastGoodSnapshot(id).orElseThrow(() -> exception);
+        }
         validateApiResponse(apiResponse);
         if (null == apiResponse.getData()) throw new DataNotFoundException("No Data found on the API for given Id");
         return employeeMapper.maptoModel(apiResponse.getData());
@@ -61,11 +133,8 @@ public class EmployeeService implements IEmployeeService{
     @EnableExecutionTimeLogging
     @EnableExceptionHandling
     public Integer getHighestSalaryOfEmployees() {
-        return getAllEmployees().stream()
-                .filter(employee -> null != employee.getEmployeeSalary())
-                .map(Employee::getEmployeeSalary)
-                .max(Comparator.naturalOrder())
-                .map(Double::intValue)
+        return (int) employeeSnapshotCache.getSnapshot().getSalaryIndex()
+                .getHighestSalary()
                 .orElse(0);
     }
 
@@ -73,29 +142,93 @@ public class EmployeeService implements IEmployeeService{
     @EnableExecutionTimeLogging
     @EnableExceptionHandling
     public List<String> getTopTenHighestEarningEmployeeNames() {
-        return getAllEmployees().stream()
-                .sorted(Comparator.comparingDouble(Employee::getEmployeeSalary).reversed())
-                .limit(10)
+        return employeeSnapshotCache.getSnapshot().getSalaryIndex()
+                .getTopEarners(10).stream()
                 .map(Employee::getEmployeeName)
                 .toList();
     }
 
+    // Null unless the cache holds a snapshot, so asking never reaches the upstream
+    @Override
+    public String getSnapshotVersion() {
+        return employeeSnapshotCache.getCachedSnapshotVersion();
+    }
+
     @Override
     @EnableExecutionTimeLogging
     @EnableExceptionHandling
     public Employee createEmployee(@Valid CreateEmployeeRequest createEmployeeRequest) {
-        EmployeeApiResponse apiResponse = employeeApiClient.createEmployee(createEmployeeRequest);
-        validateApiResponse(apiResponse);
-        return employeeMapper.maptoModel(apiResponse.getData());
+        return createUpstream(createEmployeeRequest);
     }
 
     @Override
     @EnableExecutionTimeLogging
     @EnableExceptionHandling
     public String deleteEmployeeById(String id) {
-        Employee employee = getEmployeeById(id);
-        validateApiResponse(employeeApiClient.deleteEmployeeById(id));
-        return employee.getEmployeeName();
+        if (deleteProperties.getNameResolution() == NameResolution.NONE) {
+            deleteUpstream(id);
+            return id;
+        }
+        EmployeeSnapshot cached = employeeSnapshotCache.getCachedSnapshot();
+        Optional<Employee> known = null == cached ? Optional.empty() : cached.findById(id);
+        if (known.isPresent()) {
+            deleteUpstream(id);
+            return known.get().getEmployeeName();
+        }
+        // Not in the snapshot, so the name is looked up first; an unknown id answers 404 without a delete being sent
+        String name = fetchEmployeeById(id).getEmployeeName();
+        deleteUpstream(id);
+        return name;
+    }
+
+    // Items fail individually, a failed item is reported in its result instead of failing the batch
+    @Override
+    @EnableExecutionTimeLogging
+    public Stream<BulkItemResult> createEmployees(List<CreateEmployeeRequest> createEmployeeRequests) {
+        return bulkDispatcher.dispatch(createEmployeeRequests, (index, createEmployeeRequest) -> {
+            try {
+                return BulkItemResult.builder().index(index).success(true).employee(createUpstream(createEmployeeRequest)).build();
+            } catch (Exception exception) {
+                return BulkItemResult.builder().index(index).success(false).error(ExceptionTranslator.translate(exception).getMessage()).build();
+            }
+        });
+    }
+
+    // Names come from the snapshot rather than a read of each employee before it is deleted
+    @Override
+    @EnableExecutionTimeLogging
+    public Stream<BulkItemResult> deleteEmployeesById(List<String> ids) {
+        EmployeeSnapshot lastGood = deleteProperties.getNameResolution() == NameResolution.NONE
+                ? null
+                : employeeSnapshotCache.getLastGoodSnapshot();
+        return bulkDispatcher.dispatch(ids, (index, id) -> {
+            try {
+                deleteUpstream(id);
+                String employeeName = null == lastGood ? null : lastGood.findById(id).map(Employee::getEmployeeName).orElse(null);
+                return BulkItemResult.builder().index(index).id(id).success(true).employeeName(employeeName).build();
+            } catch (Exception exception) {
+                return BulkItemResult.builder().index(index).id(id).success(false).error(ExceptionTranslator.translate(exception).getMessage()).build();
+            }
+        });
+    }
+
+    private Employee createUpstream(CreateEmployeeRequest createEmployeeRequest) {
+        EmployeeApiResponse apiResponse = employeeApiGuard.execute("createEmployee",
+                () -> employeeApiClient.createEmployee(createEmployeeRequest));
+        validateApiResponse(apiResponse);
+        Employee employee = employeeMapper.maptoModel(apiResponse.getData());
+        employeeSnapshotCache.addEmployee(employee);
+        return employee;
+    }
+
+    private void deleteUpstream(String id) {
+        validateApiResponse(employeeApiGuard.execute("deleteEmployeeById", () -> employeeApiClient.deleteEmployeeById(id)));
+        employeeSnapshotCache.removeEmployee(id);
+    }
+
+    private Optional<Employee> findInLastGoodSnapshot(String id) {
+        EmployeeSnapshot lastGood = employeeSnapshotCache.getLastGoodSnapshot();
+        return null == lastGood ? Optional.empty() : lastGood.findById(id);
     }
 
 }
@@ -3,30 +3,47 @@ package com.example.rqchallenge.service;
 import com.example.rqchallenge.exception.ApiResponseException;
 import com.example.rqchallenge.feign.dto.EmployeeApiResponse;
 import com.example.rqchallenge.feign.dto.EmployeeListApiResponse;
+import com.example.rqchallenge.model.BulkItemResult;
 import com.example.rqchallenge.model.CreateEmployeeRequest;
 import com.example.rqchallenge.model.Employee;
+import com.example.rqchallenge.model.EmployeeField;
+import com.example.rqchallenge.model.EmployeePage;
+import com.example.rqchallenge.model.NameSearchMode;
 import lombok.SneakyThrows;
 import org.springframework.stereotype.Service;
 
 import javax.validation.Valid;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface IEmployeeService {
 
     List<Employee> getAllEmployees();
 
+    Stream<Employee> streamAllEmployees();
+
+    EmployeePage getEmployeePage(int page, int size, EmployeeField sortField, boolean descending);
+
     List<Employee> getEmployeesByNameSearch(String searchString);
 
+    List<Employee> getEmployeesByNameSearch(String searchString, NameSearchMode mode, boolean ignoreCase);
+
     Employee getEmployeeById(String id);
 
     Integer getHighestSalaryOfEmployees();
 
     List<String> getTopTenHighestEarningEmployeeNames();
 
+    String getSnapshotVersion();
+
     Employee createEmployee(@Valid CreateEmployeeRequest createEmployeeRequest);
 
     String deleteEmployeeById(String id);
 
+    Stream<BulkItemResult> createEmployees(List<CreateEmployeeRequest> createEmployeeRequests);
+
+    Stream<BulkItemResult> deleteEmployeesById(List<String> ids);
+
     @SneakyThrows(ApiResponseException.class)
     default void validateApiResponse(EmployeeListApiResponse apiResponse) {
         if (!apiResponse.isSuccessResponse()) {
@@ -0,0 +1,30 @@
+package com.example.rqchallenge.service;
+
+import com.example.rqchallenge.model.CreateEmployeeRequest;
+import com.example.rqchallenge.model.Employee;
+import com.example.rqchallenge.model.EmployeeField;
+import com.example.rqchallenge.model.EmployeePage;
+import com.example.rqchallenge.model.NameSearchMode;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import javax.validation.Valid;
+
+public interface IReactiveEmployeeService {
+
+    Flux<Employee> getAllEmployees();
+
+    Mono<EmployeePage> getEmployeePage(int page, int size, EmployeeField sortField, boolean descending);
+
+    Flux<Employee> getEmployeesByNameSearch(String searchString, NameSearchMode mode, boolean ignoreCase);
+
+    Mono<Employee> getEmployeeById(String id);
+
+    Mono<Integer> getHighestSalaryOfEmployees();
+
+    Flux<String> getTopTenHighestEarningEmployeeNames();
+
+    Mono<Employee> createEmployee(@Valid CreateEmployeeRequest createEmployeeRequest);
+
+    Mono<String> deleteEmployeeById(String id);
+}
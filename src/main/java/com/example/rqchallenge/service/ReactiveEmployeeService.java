@@ -0,0 +1,143 @@
+package com.example.rqchallenge.service;
+
+import com.example.rqchallenge.cache.EmployeeSnapshot;
+import com.example.rqchallenge.cache.ReactiveEmployeeSnapshotCache;
+import com.example.rqchallenge.config.EmployeeDeleteProperties;
+import com.example.rqchallenge.config.EmployeeDeleteProperties.NameResolution;
+import com.example.rqchallenge.exception.ApiResponseException;
+import com.example.rqchallenge.exception.DataNotFoundException;
+import com.example.rqchallenge.exception.ErrorLogThrottle;
+import com.example.rqchallenge.exception.ExceptionTranslator;
+import com.example.rqchallenge.feign.dto.EmployeeApiResponse;
+import com.example.rqchallenge.mapper.IEmployeeMapper;
+import com.example.rqchallenge.model.CreateEmployeeRequest;
+import com.example.rqchallenge.model.Employee;
+import com.example.rqchallenge.model.EmployeeField;
+import com.example.rqchallenge.model.EmployeePage;
+import com.example.rqchallenge.model.NameSearchMode;
+import com.example.rqchallenge.webclient.ReactiveEmployeeApiClient;
+import lombok.AllArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.validation.annotation.Validated;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import javax.validation.Valid;
+import java.util.Optional;
+
+@Service
+@Validated
+@Profile("reactive")
+@AllArgsConstructor
+public class ReactiveEmployeeService implements IReactiveEmployeeService {
+
+    @Autowired
+    private ReactiveEmployeeApiClient employeeApiClient;
+
+    @Autowired
+    private IEmployeeMapper employeeMapper;
+
+    @Autowired
+    private ReactiveEmployeeSnapshotCache employeeSnapshotCache;
+
+    @Autowired
+    private EmployeeDeleteProperties deleteProperties;
+
+    @Autowired
+    private ErrorLogThrottle errorLogThrottle;
+
+    @Override
+    public Flux<Employee> getAllEmployees() {
+        return handleErrors("getAllEmployees", employeeSnapshotCache.getSnapshot()
+                .flatMapIterable(EmployeeSnapshot::getEmployees));
+    }
+
+    @Override
+    public Mono<EmployeePage> getEmployeePage(int page, int size, EmployeeField sortField, boolean descending) {
+        return handleErrors("getEmployeePage", employeeSnapshotCache.getSnapshot()
+                .map(snapshot -> snapshot.page(page, size, sortField, descending)));
+    }
+
+    @Override
+    public Flux<Employee> getEmployeesByNameSearch(String searchString, NameSearchMode mode, boolean ignoreCase) {
+        return handleErrors("getEmployeesByNameSearch", employeeSnapshotCache.getSnapshot()
+                .flatMapIterable(snapshot -> snapshot.getNameSearchIndex().search(searchString, mode, ignoreCase)));
+    }
+
+    @Override
+    public Mono<Employee> getEmployeeById(String id) {
+        return handleErrors("getEmployeeById", fetchEmployeeById(id));
+    }
+
+    @Override
+    public Mono<Integer> getHighestSalaryOfEmployees() {
+        return handleErrors("getHighestSalaryOfEmployees", employeeSnapshotCache.getSnapshot()
+                .map(snapshot -> (int) snapshot.getSalaryIndex().getHighestSalary().orElse(0)));
+    }
+
+    @Override
+    public Flux<String> getTopTenHighestEarningEmployeeNames() {
+        return handleErrors("getTopTenHighestEarningEmployeeNames", employeeSnapshotCache.getSnapshot()
+                .flatMapIterable(snapshot -> snapshot.getSalaryIndex().getTopEarners(10))
+                .map(Employee::getEmployeeName));
+    }
+
+    @Override
+    public Mono<Employee> createEmployee(@Valid CreateEmployeeRequest createEmployeeRequest) {
+        return handleErrors("createEmployee", employeeApiClient.createEmployee(createEmployeeRequest)
+                .map(apiResponse -> {
+                    validateApiResponse(apiResponse);
+                    return employeeMapper.maptoModel(apiResponse.getData());
+                })
+                .doOnNext(employeeSnapshotCache::addEmployee));
+    }
+
+    @Override
+    public Mono<String> deleteEmployeeById(String id) {
+        if (deleteProperties.getNameResolution() == NameResolution.NONE) {
+            return handleErrors("deleteEmployeeById", deleteUpstream(id).thenReturn(id));
+        }
+        EmployeeSnapshot cached = employeeSnapshotCache.getCachedSnapshot();
+        Optional<Employee> known = null == cached ? Optional.empty() : cached.findById(id);
+        if (known.isPresent()) {
+            return handleErrors("deleteEmployeeById", deleteUpstream(id).thenReturn(known.get().getEmployeeName()));
+        }
+        // Not in the snapshot, so the name is looked up first; an unknown id answers 404 without a delete being sent
+        return handleErrors("deleteEmployeeById", fetchEmployeeById(id)
+                .flatMap(employee -> deleteUpstream(id).thenReturn(employee.getEmployeeName())));
+    }
+
+    private Mono<EmployeeApiResponse> deleteUpstream(String id) {
+        return employeeApiClient.deleteEmployeeById(id).doOnNext(apiResponse -> {
+            validateApiResponse(apiResponse);
+            employeeSnapshotCache.removeEmployee(id);
+        });
+    }
+
+    private Mono<Employee> fetchEmployeeById(String id) {
+        return employeeApiClient.getEmployeeById(id).map(apiResponse -> {
+            validateApiResponse(apiResponse);
+            if (null == apiResponse.getData()) throw new DataNotFoundException("No Data found on the API for given Id");
+            return employeeMapper.maptoModel(apiResponse.getData());
+        });
+    }
+
+    private void validateApiResponse(EmployeeApiResponse apiResponse) {
+        if (!apiResponse.isSuccessResponse()) {
+            throw new ApiResponseException("Received Failure response from dummy API");
+        }
+    }
+
+    // Error signals get the same logging and translation that ExceptionHandlingAspect gives the servlet stack
+    private <T> Mono<T> handleErrors(String operation, Mono<T> mono) {
+        return mono.doOnError(Exception.class, exception -> errorLogThrottle.log(operation, exception))
+                .onErrorMap(Exception.class, ExceptionTranslator::translate);
+    }
+
+    private <T> Flux<T> handleErrors(String operation, Flux<T> flux) {
+        return flux.doOnError(Exception.class, exception -> errorLogThrottle.log(operation, exception))
+                .onErrorMap(Exception.class, ExceptionTranslator::translate);
+    }
+}
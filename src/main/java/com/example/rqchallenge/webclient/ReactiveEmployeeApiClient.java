@@ -0,0 +1,93 @@
+package com.example.rqchallenge.webclient;
+
+import com.example.rqchallenge.config.EmployeeApiRetryProperties;
+import com.example.rqchallenge.feign.dto.EmployeeApiResponse;
+import com.example.rqchallenge.feign.dto.EmployeeListApiResponse;
+import com.example.rqchallenge.model.CreateEmployeeRequest;
+import com.example.rqchallenge.retry.RetryBudget;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Non-blocking counterpart of {@link com.example.rqchallenge.feign.EmployeeApiClient} used by the reactive profile.
+ * Retries follow the same {@link EmployeeApiRetryProperties} and budget rules, but back off on a timer instead of
+ * sleeping the calling thread.
+ */
+@Component
+@Profile("reactive")
+public class ReactiveEmployeeApiClient {
+
+    private static final Set<Integer> RETRYABLE_STATUSES = Set.of(429, 500, 502, 503, 504);
+
+    private final WebClient webClient;
+    private final EmployeeApiRetryProperties retryProperties;
+    private final RetryBudget retryBudget;
+
+    public ReactiveEmployeeApiClient(WebClient.Builder webClientBuilder, @Value("${employee.api.base-url}") String baseUrl,
+                                     EmployeeApiRetryProperties retryProperties) {
+        this.webClient = webClientBuilder.baseUrl(baseUrl).build();
+        this.retryProperties = retryProperties;
+        this.retryBudget = new RetryBudget(retryProperties.getBudgetRatio(), retryProperties.getMinRetriesPerSecond());
+    }
+
+    public Mono<EmployeeListApiResponse> getAllEmployees() {
+        return webClient.get().uri("/api/v1/employees")
+                .retrieve()
+                .bodyToMono(EmployeeListApiResponse.class)
+                .transform(withRetry("getAllEmployees"));
+    }
+
+    public Mono<EmployeeApiResponse> getEmployeeById(String id) {
+        return webClient.get().uri("/api/v1/employee/{id}", id)
+                .retrieve()
+                .bodyToMono(EmployeeApiResponse.class)
+                .transform(withRetry("getEmployeeById"));
+    }
+
+    public Mono<EmployeeApiResponse> createEmployee(CreateEmployeeRequest createEmployeeRequest) {
+        return webClient.post().uri("/api/v1/create")
+                .bodyValue(createEmployeeRequest)
+                .retrieve()
+                .bodyToMono(EmployeeApiResponse.class)
+                .transform(withRetry("createEmployee"));
+    }
+
+    public Mono<EmployeeApiResponse> deleteEmployeeById(String id) {
+        return webClient.get().uri("/api/v1/delete/{id}", id)
+                .retrieve()
+                .bodyToMono(EmployeeApiResponse.class)
+                .transform(withRetry("deleteEmployeeById"));
+    }
+
+    private <T> Function<Mono<T>, Mono<T>> withRetry(String method) {
+        EmployeeApiRetryProperties.Policy policy = retryProperties.resolve(method);
+        if (!policy.getIdempotent() || policy.getMaxAttempts() <= 1) {
+            return call -> call.doOnSubscribe(subscription -> retryBudget.recordRequest());
+        }
+        // Reactor doubles the backoff each attempt and applies up to 50% jitter, the configured multiplier is not used
+        Retry retry = Retry.backoff(policy.getMaxAttempts() - 1, policy.getInitialBackoff())
+                .maxBackoff(policy.getMaxBackoff())
+                .jitter(0.5d)
+                .filter(throwable -> isTransient(throwable) && retryBudget.tryAcquireRetry())
+                .onRetryExhaustedThrow((retrySpec, retrySignal) -> retrySignal.failure());
+        // Recorded outside retryWhen so a retried call deposits into the budget once
+        return call -> call.retryWhen(retry).doOnSubscribe(subscription -> retryBudget.recordRequest());
+    }
+
+    static boolean isTransient(Throwable throwable) {
+        if (throwable instanceof WebClientRequestException) {
+            return true;
+        }
+        return throwable instanceof WebClientResponseException responseException
+                && RETRYABLE_STATUSES.contains(responseException.getRawStatusCode());
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.rqchallenge.aspect;
+
+import com.example.rqchallenge.annotation.EnableExecutionTimeLogging;
+import com.example.rqchallenge.config.EmployeeMetricsProperties;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ExecutionTimeMetricsAspectTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private TimedTarget target;
+
+    @BeforeEach
+    public void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new TimedTarget());
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(new ExecutionTimeMetricsAspect(meterRegistry, new EmployeeMetricsProperties()));
+        target = proxyFactory.getProxy();
+    }
+
+    @Test
+    public void testRecordsSuccessAndFailureSeparately() {
+        target.succeed();
+        target.succeed();
+        assertThatThrownBy(target::fail).isInstanceOf(IllegalStateException.class);
+
+        assertThat(timer("succeed", "success").count()).isEqualTo(2);
+        assertThat(timer("fail", "failure").count()).isEqualTo(1);
+        assertThat(meterRegistry.find("employee.service.execution").tag("method", "fail").tag("outcome", "success").timer())
+                .isNull();
+    }
+
+    @Test
+    public void testUnannotatedMethodsAreNotTimed() {
+        target.untimed();
+
+        assertThat(meterRegistry.find("employee.service.execution").timers()).isEmpty();
+    }
+
+    private Timer timer(String method, String outcome) {
+        return meterRegistry.get("employee.service.execution")
+                .tag("class", "TimedTarget")
+                .tag("method", method)
+                .tag("outcome", outcome)
+                .timer();
+    }
+
+    static class TimedTarget {
+
+        @EnableExecutionTimeLogging
+        public String succeed() {
+            return "done";
+        }
+
+        @EnableExecutionTimeLogging
+        public String fail() {
+            throw new IllegalStateException("failed");
+        }
+
+        public String untimed() {
+            return "done";
+        }
+    }
+}
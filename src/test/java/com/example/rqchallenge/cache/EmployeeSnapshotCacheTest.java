@@ -0,0 +1,298 @@
+package com.example.rqchallenge.cache;
+
+import com.example.rqchallenge.config.EmployeeApiResilienceProperties;
+import com.example.rqchallenge.config.EmployeeCacheProperties;
+import com.example.rqchallenge.exception.ApiResponseException;
+import com.example.rqchallenge.feign.EmployeeApiClient;
+import com.example.rqchallenge.feign.RequestCoalescer;
+import com.example.rqchallenge.feign.dto.EmployeeDto;
+import com.example.rqchallenge.feign.dto.EmployeeListApiResponse;
+import com.example.rqchallenge.mapper.EmployeeMapper;
+import com.example.rqchallenge.model.Employee;
+import com.example.rqchallenge.resilience.EmployeeApiGuard;
+import feign.FeignException;
+import feign.Request;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+public class EmployeeSnapshotCacheTest {
+
+    private EmployeeApiClient employeeApiClient;
+
+    private EmployeeCacheProperties cacheProperties;
+
+    private EmployeeApiResilienceProperties resilienceProperties;
+
+    private EmployeeSnapshotCache cache;
+
+    private final List<Object> events = new ArrayList<>();
+
+    @BeforeEach
+    public void setup() {
+        employeeApiClient = Mockito.mock(EmployeeApiClient.class);
+        when(employeeApiClient.getAllEmployees()).thenReturn(buildEmployeeListApiResponse());
+        cacheProperties = new EmployeeCacheProperties();
+        cacheProperties.setRefreshInterval(Duration.ofMinutes(1));
+        cacheProperties.setTtl(Duration.ofMinutes(5));
+        resilienceProperties = new EmployeeApiResilienceProperties();
+    }
+
+    @AfterEach
+    public void teardown() {
+        if (null != cache) {
+            cache.shutdown();
+        }
+    }
+
+    @Test
+    public void testGetSnapshot_ServedFromCache() {
+        cache = buildCache();
+
+        EmployeeSnapshot first = cache.getSnapshot();
+        EmployeeSnapshot second = cache.getSnapshot();
+
+        assertThat(first.getEmployees()).hasSize(2);
+        assertThat(second).isSameAs(first);
+        verify(employeeApiClient, times(1)).getAllEmployees();
+    }
+
+    @Test
+    public void testAddEmployee_AppliedToCachedSnapshot() {
+        cache = buildCache();
+
+        EmployeeSnapshot first = cache.getSnapshot();
+        cache.addEmployee(Employee.builder().id(3L).employeeName("Sumit Shah").employeeAge(30).employeeSalary(20000d).build());
+        EmployeeSnapshot second = cache.getSnapshot();
+
+        assertThat(second.getVersion()).isGreaterThan(first.getVersion());
+        assertThat(second.getEmployees()).hasSize(3);
+        assertThat(second.getSalaryIndex().getHighestSalary()).hasValue(20000d);
+        verify(employeeApiClient, times(1)).getAllEmployees();
+    }
+
+    @Test
+    public void testAddEmployee_WithoutIdExpiresCachedSnapshot() {
+        cache = buildCache();
+
+        cache.getSnapshot();
+        cache.addEmployee(Employee.builder().employeeName("Sumit Shah").employeeAge(30).employeeSalary(20000d).build());
+
+        assertThat(cache.getCachedSnapshot()).isNull();
+        cache.getSnapshot();
+        verify(employeeApiClient, times(2)).getAllEmployees();
+    }
+
+    @Test
+    public void testRemoveEmployee_AppliedToCachedSnapshot() {
+        cache = buildCache();
+
+        cache.getSnapshot();
+        cache.removeEmployee("1");
+        EmployeeSnapshot snapshot = cache.getSnapshot();
+
+        assertThat(snapshot.getEmployees()).extracting(Employee::getEmployeeName).containsExactly("Rohit Mehta");
+        assertThat(snapshot.getSalaryIndex().getHighestSalary()).hasValue(5000d);
+        verify(employeeApiClient, times(1)).getAllEmployees();
+    }
+
+    @Test
+    public void testGetSnapshot_WhenStaleServesOldAndRefreshesInBackground() throws Exception {
+        CountDownLatch upstreamSlow = new CountDownLatch(1);
+        when(employeeApiClient.getAllEmployees())
+                .thenReturn(buildEmployeeListApiResponse())
+                .thenAnswer(invocation -> {
+                    upstreamSlow.await();
+                    return buildEmployeeListApiResponse();
+                });
+        cacheProperties.setRefreshInterval(Duration.ofMillis(1));
+        cache = buildCache();
+
+        EmployeeSnapshot first = cache.getSnapshot();
+        Thread.sleep(5);
+        EmployeeSnapshot stale = cache.getSnapshot();
+
+        assertThat(stale).isSameAs(first);
+        upstreamSlow.countDown();
+        verify(employeeApiClient, timeout(1000).atLeast(2)).getAllEmployees();
+    }
+
+    @Test
+    public void testGetSnapshot_WhenTtlExpired() throws Exception {
+        cacheProperties.setTtl(Duration.ofMillis(1));
+        cache = buildCache();
+
+        EmployeeSnapshot first = cache.getSnapshot();
+        Thread.sleep(5);
+        EmployeeSnapshot second = cache.getSnapshot();
+
+        assertThat(second).isNotSameAs(first);
+        verify(employeeApiClient, atLeast(2)).getAllEmployees();
+    }
+
+    @Test
+    public void testGetSnapshot_WhenRosterUnchangedKeepsVersion() throws Exception {
+        cacheProperties.setTtl(Duration.ofMillis(1));
+        cache = buildCache();
+
+        EmployeeSnapshot first = cache.getSnapshot();
+        Thread.sleep(5);
+        EmployeeSnapshot second = cache.getSnapshot();
+
+        assertThat(second.getVersion()).isEqualTo(first.getVersion());
+        assertThat(second.getTable()).isSameAs(first.getTable());
+        assertThat(events).hasSize(1);
+    }
+
+    @Test
+    public void testGetSnapshot_AppliesUpstreamChangesAsDelta() throws Exception {
+        when(employeeApiClient.getAllEmployees())
+                .thenReturn(buildEmployeeListApiResponse())
+                .thenReturn(EmployeeListApiResponse.builder()
+                        .status("success")
+                        .data(List.of(
+                                EmployeeDto.builder().id(2L).employeeName("Rohit Mehta").employeeAge(35).employeeSalary(15000).profileImage("456").build(),
+                                EmployeeDto.builder().id(3L).employeeName("Sumit Shah").employeeAge(30).employeeSalary(8000).profileImage("789").build()))
+                        .build());
+        cacheProperties.setTtl(Duration.ofMillis(1));
+        cacheProperties.setMaxDeltaRatio(1.5);
+        cache = buildCache();
+
+        EmployeeSnapshot first = cache.getSnapshot();
+        Thread.sleep(5);
+        EmployeeSnapshot second = cache.getSnapshot();
+
+        assertThat(second.getVersion()).isGreaterThan(first.getVersion());
+        assertThat(second.getEmployees()).extracting(Employee::getEmployeeName).containsExactly("Rohit Mehta", "Sumit Shah");
+        assertThat(second.getSalaryIndex().getHighestSalary()).hasValue(15000d);
+        assertThat(events).hasSize(2);
+        EmployeeSnapshotChangedEvent event = (EmployeeSnapshotChangedEvent) events.get(1);
+        assertThat(event.isReload()).isFalse();
+        assertThat(event.getInsertedIds()).containsExactly(3L);
+        assertThat(event.getUpdatedIds()).containsExactly(2L);
+        assertThat(event.getDeletedIds()).containsExactly(1L);
+    }
+
+    @Test
+    public void testGetSnapshot_InsertsRepeatedNewIdOnce() throws Exception {
+        EmployeeDto sumit = EmployeeDto.builder().id(3L).employeeName("Sumit Shah").employeeAge(30).employeeSalary(8000).profileImage("789").build();
+        List<EmployeeDto> roster = new ArrayList<>(buildEmployeeListApiResponse().getData());
+        roster.add(sumit);
+        roster.add(sumit);
+        when(employeeApiClient.getAllEmployees())
+                .thenReturn(buildEmployeeListApiResponse())
+                .thenReturn(EmployeeListApiResponse.builder().status("success").data(roster).build());
+        cacheProperties.setTtl(Duration.ofMillis(1));
+        cacheProperties.setMaxDeltaRatio(1.5);
+        cache = buildCache();
+
+        cache.getSnapshot();
+        Thread.sleep(5);
+        EmployeeSnapshot second = cache.getSnapshot();
+
+        assertThat(second.getEmployees()).extracting(Employee::getId).containsExactly(1L, 2L, 3L);
+        assertThat(((EmployeeSnapshotChangedEvent) events.get(1)).getInsertedIds()).containsExactly(3L);
+    }
+
+    @Test
+    public void testGetSnapshot_WhenDisabled() {
+        cacheProperties.setEnabled(false);
+        cache = buildCache();
+
+        cache.getSnapshot();
+        cache.getSnapshot();
+
+        verify(employeeApiClient, times(2)).getAllEmployees();
+    }
+
+    @Test
+    public void testGetSnapshot_WhenApiReturnsFailure() {
+        when(employeeApiClient.getAllEmployees()).thenReturn(EmployeeListApiResponse.builder().status("failure").build());
+        cache = buildCache();
+
+        assertThatThrownBy(() -> cache.getSnapshot())
+                .isInstanceOf(ApiResponseException.class)
+                .hasMessageContaining("Received Failure response from dummy API");
+    }
+
+    @Test
+    public void testGetSnapshot_WhenCircuitOpenServesLastGoodSnapshot() throws Exception {
+        Request request = Request.create(Request.HttpMethod.GET, "/api/v1/employees", Map.of(), null, StandardCharsets.UTF_8, null);
+        when(employeeApiClient.getAllEmployees())
+                .thenReturn(buildEmployeeListApiResponse())
+                .thenThrow(new FeignException.InternalServerError("server error", request, null, Map.of()));
+        resilienceProperties.getCircuitBreaker().setSlidingWindowSize(2);
+        resilienceProperties.getCircuitBreaker().setMinimumCalls(2);
+        cacheProperties.setTtl(Duration.ofMillis(1));
+        cache = buildCache();
+
+        EmployeeSnapshot lastGood = cache.getSnapshot();
+        Thread.sleep(5);
+        assertThatThrownBy(() -> cache.getSnapshot()).isInstanceOf(FeignException.InternalServerError.class);
+        EmployeeSnapshot fallback = cache.getSnapshot();
+
+        assertThat(fallback).isSameAs(lastGood);
+        verify(employeeApiClient, times(2)).getAllEmployees();
+    }
+
+    @Test
+    public void testGetSnapshot_RestoresPersistedSnapshotOnRestart(@TempDir Path directory) throws Exception {
+        cacheProperties.getPersistence().setEnabled(true);
+        cacheProperties.getPersistence().setPath(directory.resolve("employees.bin"));
+        cache = buildCache();
+        cache.getSnapshot();
+        awaitFile(directory.resolve("employees.bin"));
+        cache.shutdown();
+        CountDownLatch refreshStarted = new CountDownLatch(1);
+        when(employeeApiClient.getAllEmployees()).thenAnswer(invocation -> {
+            refreshStarted.countDown();
+            return buildEmployeeListApiResponse();
+        });
+
+        cache = buildCache();
+        EmployeeSnapshot restored = cache.getLastGoodSnapshot();
+
+        assertThat(restored).isNotNull();
+        assertThat(restored.getEmployees()).extracting(Employee::getEmployeeName).containsExactly("Punit Jain", "Rohit Mehta");
+        assertThat(refreshStarted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private static void awaitFile(Path path) throws InterruptedException {
+        for (int attempt = 0; attempt < 500 && !Files.exists(path); attempt++) {
+            Thread.sleep(10);
+        }
+    }
+
+    private EmployeeSnapshotCache buildCache() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        return new EmployeeSnapshotCache(employeeApiClient, new RequestCoalescer(meterRegistry),
+                new EmployeeApiGuard(resilienceProperties, meterRegistry), new EmployeeMapper(), cacheProperties, meterRegistry, events::add);
+    }
+
+    private EmployeeListApiResponse buildEmployeeListApiResponse() {
+        return EmployeeListApiResponse.builder()
+                .status("success")
+                .data(List.of(
+                        EmployeeDto.builder().id(1L).employeeName("Punit Jain").employeeAge(34).employeeSalary(10000).profileImage("123").build(),
+                        EmployeeDto.builder().id(2L).employeeName("Rohit Mehta").employeeAge(35).employeeSalary(5000).profileImage("456").build()))
+                .message("Successfully! All records has been fetched.")
+                .build();
+    }
+}
@@ -1,33 +1,56 @@
 package com.example.rqchallenge.controller;
 
+import com.example.rqchallenge.config.EmployeeHttpCacheProperties;
+import com.example.rqchallenge.config.EmployeeWireFormatConfiguration;
 import com.example.rqchallenge.exception.DataNotFoundException;
+import com.example.rqchallenge.model.BulkItemResult;
 import com.example.rqchallenge.model.Employee;
+import com.example.rqchallenge.model.EmployeeField;
+import com.example.rqchallenge.model.EmployeePage;
+import com.example.rqchallenge.model.NameSearchMode;
 import com.example.rqchallenge.service.IEmployeeService;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @ExtendWith(SpringExtension.class)
 @WebMvcTest(EmployeeController.class)
 @AutoConfigureMockMvc
+@EnableConfigurationProperties(EmployeeHttpCacheProperties.class)
+@Import(EmployeeWireFormatConfiguration.class)
+@TestPropertySource(properties = "spring.jackson.default-property-inclusion=non_null")
 public class EmployeeControllerTest {
 
     @Autowired
@@ -66,9 +89,155 @@ public class EmployeeControllerTest {
     }
 
 
+    @Test
+    public void testGetAllEmployees_PagedSortedAndProjected() throws Exception {
+        when(employeeService.getEmployeePage(0, 1, EmployeeField.EMPLOYEE_SALARY, true)).thenReturn(
+                EmployeePage.builder().employees(List.of(buildEmployee())).page(0).size(1).totalElements(2).build());
+
+        mockMvc.perform(get("/api/v1/employee")
+                        .param("page", "0")
+                        .param("size", "1")
+                        .param("sort", "salary,desc")
+                        .param("fields", "id,employeeName"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Total-Count", "2"))
+                .andExpect(content().json("""
+                        [{"id":1,"employeeName":"Punit Jain"}]
+                        """, true));
+    }
+
+    @Test
+    public void testGetAllEmployees_SortOnlyIsCappedAtMaxPageSize() throws Exception {
+        when(employeeService.getEmployeePage(0, 1000, EmployeeField.EMPLOYEE_AGE, false)).thenReturn(
+                EmployeePage.builder().employees(buildEmployeeList()).page(0).size(1000).totalElements(1500).build());
+
+        mockMvc.perform(get("/api/v1/employee").param("sort", "age"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Total-Count", "1500"));
+    }
+
+    @Test
+    public void testGetAllEmployees_WhenUnknownSortField() throws Exception {
+        mockMvc.perform(get("/api/v1/employee").param("sort", "department"))
+                .andExpect(status().isBadRequest())
+                .andExpect(result -> {
+                    assertThat(result.getResponse().getContentAsString()).isEqualTo("Unknown employee field: department");
+                });
+    }
+
+    @Test
+    public void testStreamAllEmployees() throws Exception {
+        when(employeeService.streamAllEmployees()).thenReturn(buildEmployeeList().stream());
+
+        MvcResult mvcResult = mockMvc.perform(get("/api/v1/employee").param("stream", "true"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/json"))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT))
+                .andExpect(result -> {
+                    List<Employee> employees = mapper.readValue(result.getResponse().getContentAsString(),new TypeReference<List<Employee>>() {});
+                    assertThat(employees)
+                            .usingRecursiveFieldByFieldElementComparator()
+                            .isEqualTo(buildEmployeeList());
+                });
+    }
+
+    @Test
+    public void testStreamAllEmployeesAsNdjson() throws Exception {
+        when(employeeService.streamAllEmployees()).thenReturn(buildEmployeeList().stream());
+
+        MvcResult mvcResult = mockMvc.perform(get("/api/v1/employee").accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(result -> {
+                    String[] lines = result.getResponse().getContentAsString().split("\n");
+                    assertThat(lines).hasSize(2);
+                    assertThat(mapper.readValue(lines[1], Employee.class))
+                            .isEqualToComparingFieldByField(buildEmployeeList().get(1));
+                });
+    }
+
+    @Test
+    public void testGetAllEmployees_AsSmileWhenAccepted() throws Exception {
+        when(employeeService.getSnapshotVersion()).thenReturn("kx2a.7");
+        when(employeeService.getAllEmployees()).thenReturn(buildEmployeeList());
+
+        mockMvc.perform(get("/api/v1/employee").header(HttpHeaders.ACCEPT, "application/x-jackson-smile, application/json;q=0.5"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-jackson-smile"))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"kx2a.7-smile\""))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT))
+                .andExpect(result -> {
+                    List<Employee> employees = new ObjectMapper(new SmileFactory()).readValue(
+                            result.getResponse().getContentAsByteArray(), new TypeReference<List<Employee>>() {});
+                    assertThat(employees)
+                            .usingRecursiveFieldByFieldElementComparator()
+                            .isEqualTo(buildEmployeeList());
+                });
+
+        mockMvc.perform(get("/api/v1/employee").header(HttpHeaders.IF_NONE_MATCH, "\"kx2a.7\""))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/api/v1/employee").header(HttpHeaders.IF_NONE_MATCH, "\"kx2a.7\"")
+                        .header(HttpHeaders.ACCEPT, "application/x-jackson-smile"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    public void testGetAllEmployees_SmileFollowsSpringJacksonProperties() throws Exception {
+        Employee withoutImage = Employee.builder().id(3L).employeeName("Sumit Punj").employeeAge(30).employeeSalary(1000d).build();
+        when(employeeService.getAllEmployees()).thenReturn(List.of(withoutImage));
+
+        mockMvc.perform(get("/api/v1/employee").accept(MediaType.valueOf("application/x-jackson-smile")))
+                .andExpect(status().isOk())
+                .andExpect(result -> {
+                    List<Map<String, Object>> employees = new ObjectMapper(new SmileFactory()).readValue(
+                            result.getResponse().getContentAsByteArray(), new TypeReference<List<Map<String, Object>>>() {});
+                    assertThat(employees).hasSize(1);
+                    assertThat(employees.get(0)).containsEntry("employeeName", "Sumit Punj").doesNotContainKey("profileImage");
+                });
+    }
+
+    @Test
+    public void testStreamAllEmployees_AsCborWhenAccepted() throws Exception {
+        when(employeeService.streamAllEmployees()).thenReturn(buildEmployeeList().stream());
+
+        MvcResult mvcResult = mockMvc.perform(get("/api/v1/employee").param("stream", "true").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT))
+                .andExpect(result -> {
+                    List<Employee> employees = new ObjectMapper(new CBORFactory()).readValue(
+                            result.getResponse().getContentAsByteArray(), new TypeReference<List<Employee>>() {});
+                    assertThat(employees)
+                            .usingRecursiveFieldByFieldElementComparator()
+                            .isEqualTo(buildEmployeeList());
+                });
+    }
+
+    @Test
+    public void testStreamAllEmployees_WhenException() throws Exception {
+        when(employeeService.streamAllEmployees()).thenThrow(new RuntimeException("---Test Exception---"));
+        mockMvc.perform(get("/api/v1/employee").param("stream", "true"))
+                .andExpect(status().isInternalServerError())
+                .andExpect(result -> {
+                    assertThat(result.getResponse().getContentAsString()).isEqualTo("---Test Exception---");
+                });
+    }
+
     @Test
     public void testGetEmployeesByNameSearch() throws Exception {
-        when(employeeService.getEmployeesByNameSearch(anyString())).thenReturn(buildEmployeeList());
+        when(employeeService.getEmployeesByNameSearch(anyString(), eq(NameSearchMode.CONTAINS), eq(false))).thenReturn(buildEmployeeList());
 
         mockMvc.perform(get("/api/v1/employee/search/it"))
                 .andExpect(status().isOk())
@@ -81,9 +250,23 @@ public class EmployeeControllerTest {
                 });
     }
 
+    @Test
+    public void testGetEmployeesByNameSearch_WithPrefixIgnoringCase() throws Exception {
+        when(employeeService.getEmployeesByNameSearch("pun", NameSearchMode.PREFIX, true)).thenReturn(List.of(buildEmployee()));
+
+        mockMvc.perform(get("/api/v1/employee/search/pun").param("mode", "PREFIX").param("ignoreCase", "true"))
+                .andExpect(status().isOk())
+                .andExpect(result -> {
+                    List<Employee> employees = mapper.readValue(result.getResponse().getContentAsString(),new TypeReference<List<Employee>>() {});
+                    assertThat(employees)
+                            .usingRecursiveFieldByFieldElementComparator()
+                            .isEqualTo(List.of(buildEmployee()));
+                });
+    }
+
     @Test
     public void testGetEmployeesByNameSearch_WhenException() throws Exception {
-        when(employeeService.getEmployeesByNameSearch(anyString())).thenThrow(new RuntimeException("---Test Exception while search by Name---"));
+        when(employeeService.getEmployeesByNameSearch(anyString(), any(), anyBoolean())).thenThrow(new RuntimeException("---Test Exception while search by Name---"));
         mockMvc.perform(get("/api/v1/employee/search/it"))
                 .andExpect(status().isInternalServerError())
                 .andExpect(result -> {
@@ -132,6 +315,41 @@ public class EmployeeControllerTest {
                 });
     }
 
+    @Test
+    public void testGetHighestSalaryOfEmployees_SendsETagAndCacheControl() throws Exception {
+        when(employeeService.getSnapshotVersion()).thenReturn("kx2a.7");
+        when(employeeService.getHighestSalaryOfEmployees()).thenReturn(25000);
+
+        mockMvc.perform(get("/api/v1/employee/highestSalary"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"kx2a.7\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=5, must-revalidate"))
+                .andExpect(content().string("25000"));
+    }
+
+    @Test
+    public void testGetAllEmployees_NotModifiedWhenETagMatches() throws Exception {
+        when(employeeService.getSnapshotVersion()).thenReturn("kx2a.7");
+        when(employeeService.getAllEmployees()).thenReturn(buildEmployeeList());
+
+        mockMvc.perform(get("/api/v1/employee").header(HttpHeaders.IF_NONE_MATCH, "\"kx2a.7\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"kx2a.7\""))
+                .andExpect(content().string(""));
+
+        mockMvc.perform(get("/api/v1/employee").header(HttpHeaders.IF_NONE_MATCH, "\"kx2a.6\""))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    public void testGetAllEmployees_NoETagWithoutCachedSnapshot() throws Exception {
+        when(employeeService.getAllEmployees()).thenReturn(buildEmployeeList());
+
+        mockMvc.perform(get("/api/v1/employee").header(HttpHeaders.IF_NONE_MATCH, "*"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+    }
+
     @Test
     public void testGetHighestSalaryOfEmployees_WhenException() throws Exception {
         when(employeeService.getHighestSalaryOfEmployees()).thenThrow(new RuntimeException("---Test Exception---"));
@@ -214,6 +432,49 @@ public class EmployeeControllerTest {
     }
 
 
+    @Test
+    public void testCreateEmployees() throws Exception {
+        when(employeeService.createEmployees(Mockito.anyList())).thenReturn(Stream.of(
+                BulkItemResult.builder().index(1).success(false).error("API is unable to take the request").build(),
+                BulkItemResult.builder().index(0).success(true).employee(buildEmployee()).build()));
+
+        MvcResult mvcResult = mockMvc.perform(post("/api/v1/employee/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                [{"name":"Punit Jain","salary":10000,"age":34},{"name":"Rohit Mehta","salary":5000,"age":35}]
+                                """))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(result -> {
+                    List<String> lines = result.getResponse().getContentAsString().lines().toList();
+                    assertThat(lines).hasSize(2);
+                    assertThat(mapper.readTree(lines.get(0)).get("error").asText()).isEqualTo("API is unable to take the request");
+                    assertThat(mapper.readTree(lines.get(1)).get("employee").get("employeeName").asText()).isEqualTo("Punit Jain");
+                });
+    }
+
+    @Test
+    public void testCreateEmployees_WhenItemInvalid() throws Exception {
+        mockMvc.perform(post("/api/v1/employee/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                [{"name":"Punit Jain","salary":10000,"age":34},{"salary":5000,"age":35}]
+                                """))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void testDeleteEmployeesById_WhenBatchEmpty() throws Exception {
+        mockMvc.perform(delete("/api/v1/employee/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isBadRequest());
+    }
+
     private List<Employee> buildEmployeeList() {
         return List.of(
                 Employee.builder().id(1L).employeeName("Punit Jain").employeeAge(34).employeeSalary(10000d).profileImage("123").build(),
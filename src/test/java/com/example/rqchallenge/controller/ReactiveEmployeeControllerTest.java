@@ -0,0 +1,107 @@
+package com.example.rqchallenge.controller;
+
+import com.example.rqchallenge.exception.DataNotFoundException;
+import com.example.rqchallenge.model.Employee;
+import com.example.rqchallenge.model.EmployeeField;
+import com.example.rqchallenge.model.EmployeePage;
+import com.example.rqchallenge.service.IReactiveEmployeeService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(SpringExtension.class)
+@WebFluxTest(ReactiveEmployeeController.class)
+@ActiveProfiles("reactive")
+public class ReactiveEmployeeControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockBean
+    private IReactiveEmployeeService employeeService;
+
+    @Test
+    public void testGetAllEmployees() {
+        when(employeeService.getAllEmployees()).thenReturn(Flux.fromIterable(buildEmployeeList()));
+
+        webTestClient.get().uri("/api/v1/employee")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(Employee.class)
+                .value(employees -> assertThat(employees)
+                        .usingRecursiveFieldByFieldElementComparator()
+                        .isEqualTo(buildEmployeeList()));
+    }
+
+    @Test
+    public void testGetAllEmployees_AsNdjson() {
+        when(employeeService.getAllEmployees()).thenReturn(Flux.fromIterable(buildEmployeeList()));
+
+        webTestClient.get().uri("/api/v1/employee")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectBody(String.class)
+                .value(body -> assertThat(body.lines()).hasSize(2));
+    }
+
+    @Test
+    public void testGetAllEmployees_PagedSortedAndProjected() {
+        when(employeeService.getEmployeePage(0, 1, EmployeeField.EMPLOYEE_SALARY, true)).thenReturn(Mono.just(
+                EmployeePage.builder().employees(List.of(buildEmployee())).page(0).size(1).totalElements(2).build()));
+
+        webTestClient.get().uri("/api/v1/employee?page=0&size=1&sort=salary,desc&fields=id,employeeName")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("X-Total-Count", "2")
+                .expectBody().json("""
+                        [{"id":1,"employeeName":"Punit Jain"}]
+                        """);
+    }
+
+    @Test
+    public void testGetEmployeeById_WhenNotFound() {
+        when(employeeService.getEmployeeById(anyString())).thenReturn(Mono.error(new DataNotFoundException("No Data found for the given id = 2")));
+
+        webTestClient.get().uri("/api/v1/employee/2")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody(String.class).isEqualTo("No Data found for the given id = 2");
+    }
+
+    @Test
+    public void testGetTopTenHighestEarningEmployeeNames() {
+        when(employeeService.getTopTenHighestEarningEmployeeNames()).thenReturn(Flux.just("Punit Jain", "Rohit Mehta"));
+
+        webTestClient.get().uri("/api/v1/employee/topTenHighestEarningEmployeeNames")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(new ParameterizedTypeReference<List<String>>() {}).isEqualTo(List.of("Punit Jain", "Rohit Mehta"));
+    }
+
+    private List<Employee> buildEmployeeList() {
+        return List.of(
+                Employee.builder().id(1L).employeeName("Punit Jain").employeeAge(34).employeeSalary(10000d).profileImage("123").build(),
+                Employee.builder().id(2L).employeeName("Rohit Mehta").employeeAge(35).employeeSalary(5000d).profileImage("456").build());
+    }
+
+    private Employee buildEmployee() {
+        return Employee.builder().id(1L).employeeName("Punit Jain").employeeAge(34).employeeSalary(10000d).profileImage("123").build();
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.rqchallenge.exception;
+
+import feign.FeignException;
+import feign.Request;
+import feign.RetryableException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+
+import javax.validation.ConstraintViolationException;
+import java.net.ConnectException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ExceptionTranslatorTest {
+
+    @Test
+    public void testTranslate_ExpectedUpstreamFailuresShareStacklessInstances() {
+        Exception first = ExceptionTranslator.translate(internalServerError());
+        Exception second = ExceptionTranslator.translate(new ApiResponseException("Received Failure response from dummy API"));
+
+        assertThat(first).isInstanceOf(ApiResponseException.class).hasMessage("Failed to get the response from API");
+        assertThat(second).isSameAs(first);
+        assertThat(first.getStackTrace()).isEmpty();
+    }
+
+    @Test
+    public void testTranslate_ValidationAndRejectionsPassThrough() {
+        ConstraintViolationException violation = new ConstraintViolationException("invalid", Set.of());
+        UpstreamUnavailableException rejection = new UpstreamUnavailableException("Dummy API is unavailable, calls are suspended");
+
+        assertThat(ExceptionTranslator.translate(violation)).isSameAs(violation);
+        assertThat(ExceptionTranslator.translate(rejection)).isSameAs(rejection);
+        assertThat(rejection.getStackTrace()).isEmpty();
+    }
+
+    @Test
+    public void testTranslate_ConnectionFailuresAreUnavailableNotThrottled() {
+        WebClientRequestException refused = new WebClientRequestException(new ConnectException("Connection refused"),
+                HttpMethod.GET, URI.create("http://localhost/api/v1/employees"), new HttpHeaders());
+
+        Exception translated = ExceptionTranslator.translate(refused);
+
+        assertThat(translated).isInstanceOf(UpstreamUnavailableException.class);
+        assertThat(ExceptionTranslator.isExpected(refused)).isTrue();
+    }
+
+    @Test
+    public void testTranslate_RetryableFeignFailuresByStatus() {
+        Request request = Request.create(Request.HttpMethod.GET, "http://localhost/api/v1/employees", Map.of(), null,
+                StandardCharsets.UTF_8, null);
+
+        assertThat(ExceptionTranslator.translate(new RetryableException(-1, "Connection refused", Request.HttpMethod.GET, null, request)))
+                .isInstanceOf(UpstreamUnavailableException.class);
+        assertThat(ExceptionTranslator.translate(new RetryableException(429, "Too Many Requests", Request.HttpMethod.GET, null, request)))
+                .isInstanceOf(TooManyRequestException.class);
+        assertThat(ExceptionTranslator.translate(new RetryableException(500, "Server Error", Request.HttpMethod.GET, null, request)))
+                .isInstanceOf(ApiResponseException.class);
+    }
+
+    @Test
+    public void testTranslate_UnexpectedFailures() {
+        IllegalStateException failure = new IllegalStateException("bug");
+
+        Exception translated = ExceptionTranslator.translate(failure);
+
+        assertThat(translated).hasMessage("Internal Server Error");
+        assertThat(ExceptionTranslator.isExpected(failure)).isFalse();
+        assertThat(ExceptionTranslator.isExpected(internalServerError())).isTrue();
+    }
+
+    private FeignException internalServerError() {
+        Request request = Request.create(Request.HttpMethod.GET, "http://localhost/api/v1/employees", Map.of(), null,
+                StandardCharsets.UTF_8, null);
+        return new FeignException.InternalServerError("server error", request, null, Map.of());
+    }
+}
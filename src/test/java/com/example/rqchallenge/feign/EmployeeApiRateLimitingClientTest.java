@@ -0,0 +1,122 @@
+package com.example.rqchallenge.feign;
+
+import com.example.rqchallenge.config.EmployeeApiResilienceProperties;
+import com.example.rqchallenge.config.EmployeeApiResilienceProperties.RateLimiterSettings;
+import com.example.rqchallenge.config.EmployeeBulkProperties;
+import com.example.rqchallenge.exception.UpstreamUnavailableException;
+import com.example.rqchallenge.resilience.EmployeeApiRateLimiters;
+import feign.Client;
+import feign.Feign;
+import feign.FeignException;
+import feign.Request;
+import feign.RequestLine;
+import feign.Response;
+import feign.Retryer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class EmployeeApiRateLimitingClientTest {
+
+    private final EmployeeApiResilienceProperties resilienceProperties = new EmployeeApiResilienceProperties();
+
+    private final EmployeeApiRateLimiters rateLimiters =
+            new EmployeeApiRateLimiters(resilienceProperties, new EmployeeBulkProperties(), new SimpleMeterRegistry());
+
+    @Test
+    public void testRetryAfterNanos_Seconds() {
+        assertThat(EmployeeApiRateLimitingClient.retryAfterNanos(response(429, " 3 "))).isEqualTo(TimeUnit.SECONDS.toNanos(3));
+    }
+
+    @Test
+    public void testRetryAfterNanos_HttpDate() {
+        String inTenSeconds = DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now().plusSeconds(10));
+
+        long retryAfterNanos = EmployeeApiRateLimitingClient.retryAfterNanos(response(429, inTenSeconds));
+
+        assertThat(retryAfterNanos).isBetween(TimeUnit.SECONDS.toNanos(8), TimeUnit.SECONDS.toNanos(10));
+    }
+
+    @Test
+    public void testRetryAfterNanos_PastDateMissingOrGarbled() {
+        String past = DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now().minusSeconds(10));
+
+        assertThat(EmployeeApiRateLimitingClient.retryAfterNanos(response(429, past))).isZero();
+        assertThat(EmployeeApiRateLimitingClient.retryAfterNanos(response(429, null))).isZero();
+        assertThat(EmployeeApiRateLimitingClient.retryAfterNanos(response(429, "soon"))).isZero();
+    }
+
+    @Test
+    public void testThrottledResponseHalvesRateAndHoldsCallsForRetryAfter() {
+        resilienceProperties.getRateLimiters().put("getAllEmployees",
+                new RateLimiterSettings(null, 8d, null, null, Duration.ofMillis(100)));
+        AtomicInteger sent = new AtomicInteger();
+        RateLimitedApi api = target((request, options) -> {
+            sent.incrementAndGet();
+            return response(429, "5");
+        });
+
+        assertThatThrownBy(api::getAllEmployees).isInstanceOf(FeignException.class);
+        assertThatThrownBy(api::getAllEmployees).isInstanceOf(UpstreamUnavailableException.class);
+
+        assertThat(sent).hasValue(1);
+        assertThat(rateLimiters.forOperation("getAllEmployees").orElseThrow().getPermitsPerSecond()).isEqualTo(4d);
+    }
+
+    @Test
+    public void testSuccessfulResponsesRecoverRate() {
+        resilienceProperties.getRateLimiters().put("getAllEmployees",
+                new RateLimiterSettings(null, 1000d, null, 1000, Duration.ofSeconds(1)));
+        AtomicInteger status = new AtomicInteger(429);
+        RateLimitedApi api = target((request, options) -> response(status.get(), null));
+        assertThatThrownBy(api::getAllEmployees).isInstanceOf(FeignException.class);
+        status.set(200);
+
+        for (int i = 0; i < 200; i++) {
+            api.getAllEmployees();
+        }
+
+        assertThat(rateLimiters.forOperation("getAllEmployees").orElseThrow().getPermitsPerSecond()).isEqualTo(1000d);
+    }
+
+    @Test
+    public void testBulkOperationsStartAtBulkRate() {
+        resilienceProperties.getRateLimiters().put("deleteEmployeeById", new RateLimiterSettings(null, 20d, null, null, null));
+
+        assertThat(rateLimiters.forOperation("createEmployee").orElseThrow().getPermitsPerSecond()).isEqualTo(50d);
+        assertThat(rateLimiters.forOperation("deleteEmployeeById").orElseThrow().getPermitsPerSecond()).isEqualTo(20d);
+        assertThat(rateLimiters.forOperation("getAllEmployees").orElseThrow().getPermitsPerSecond()).isEqualTo(10d);
+    }
+
+    private RateLimitedApi target(Client client) {
+        return Feign.builder()
+                .client(new EmployeeApiRateLimitingClient(client, rateLimiters))
+                .retryer(Retryer.NEVER_RETRY)
+                .target(RateLimitedApi.class, "http://localhost");
+    }
+
+    private static Response response(int status, String retryAfter) {
+        Request request = Request.create(Request.HttpMethod.GET, "http://localhost/api/v1/employees", Map.of(), null,
+                StandardCharsets.UTF_8, null);
+        Map<String, Collection<String>> headers = null == retryAfter ? Map.of() : Map.of("Retry-After", List.of(retryAfter));
+        return Response.builder().status(status).request(request).headers(headers).body("", StandardCharsets.UTF_8).build();
+    }
+
+    interface RateLimitedApi {
+
+        @RequestLine("GET /api/v1/employees")
+        String getAllEmployees();
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.rqchallenge.feign;
+
+import com.example.rqchallenge.config.EmployeeApiTransportProperties;
+import feign.Client;
+import feign.Feign;
+import feign.Param;
+import feign.Request;
+import feign.RequestLine;
+import feign.Response;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EmployeeApiTimeoutClientTest {
+
+    private final List<Request.Options> options = new ArrayList<>();
+
+    private final Client recordingClient = (request, requestOptions) -> {
+        options.add(requestOptions);
+        return Response.builder().status(200).request(request).body("ok", StandardCharsets.UTF_8).build();
+    };
+
+    @Test
+    public void testAppliesTimeoutsOfCalledMethod() {
+        EmployeeApiTransportProperties transportProperties = new EmployeeApiTransportProperties();
+        transportProperties.getMethods().put("getEmployeeById", new EmployeeApiTransportProperties.Timeouts(Duration.ofMillis(500), null));
+        TimeoutsApi api = Feign.builder()
+                .client(new EmployeeApiTimeoutClient(recordingClient, transportProperties))
+                .target(TimeoutsApi.class, "http://localhost");
+
+        api.getAllEmployees();
+        api.getEmployeeById("1");
+        api.deleteEmployeeById("1");
+
+        assertThat(options).extracting(Request.Options::connectTimeoutMillis).containsExactly(2000, 500, 2000);
+        assertThat(options).extracting(Request.Options::readTimeoutMillis).containsExactly(30000, 10000, 10000);
+    }
+
+    interface TimeoutsApi {
+
+        @RequestLine("GET /api/v1/employees")
+        String getAllEmployees();
+
+        @RequestLine("GET /api/v1/employee/{id}")
+        String getEmployeeById(@Param("id") String id);
+
+        @RequestLine("GET /api/v1/delete/{id}")
+        String deleteEmployeeById(@Param("id") String id);
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.rqchallenge.feign;
+
+import com.example.rqchallenge.feign.dto.EmployeeApiResponse;
+import com.example.rqchallenge.feign.dto.EmployeeDto;
+import com.example.rqchallenge.feign.dto.EmployeeListApiResponse;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import feign.Request;
+import feign.Response;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class EmployeeResponseDecoderTest {
+
+    private final EmployeeResponseDecoder decoder = new EmployeeResponseDecoder(new JsonFactory(), (response, type) -> "delegated");
+
+    @Test
+    public void testDecode_ListUnderUpstreamFieldNames() throws Exception {
+        EmployeeListApiResponse listResponse = (EmployeeListApiResponse) decoder.decode(response("""
+                {"status":"success","data":[
+                  {"id":1,"employee_name":"Punit Jain","employee_salary":320800,"employee_age":61,"profile_image":"","extra":{"a":[1]}},
+                  null,
+                  {"id":"2","employee_name":"Rohit Mehta","employee_salary":"170750","employee_age":"63"}
+                ],"message":"Successfully! All records has been fetched."}
+                """), EmployeeListApiResponse.class);
+
+        assertThat(listResponse.isSuccessResponse()).isTrue();
+        assertThat(listResponse.getMessage()).isEqualTo("Successfully! All records has been fetched.");
+        assertThat(listResponse.getData()).extracting(EmployeeDto::getId).containsExactly(1L, 2L);
+        assertThat(listResponse.getData()).extracting(EmployeeDto::getEmployeeName).containsExactly("Punit Jain", "Rohit Mehta");
+        assertThat(listResponse.getData()).extracting(EmployeeDto::getEmployeeSalary).containsExactly(320800d, 170750d);
+        assertThat(listResponse.getData()).extracting(EmployeeDto::getEmployeeAge).containsExactly(61, 63);
+        assertThat(listResponse.getData().get(0).getProfileImage()).isEmpty();
+    }
+
+    @Test
+    public void testDecode_SingleUnderOwnFieldNames() throws Exception {
+        EmployeeApiResponse apiResponse = (EmployeeApiResponse) decoder.decode(response("""
+                {"status":"success","data":{"id":3,"name":"Sumit Punj","salary":1000.5,"age":30,"profileImage":null}}
+                """), EmployeeApiResponse.class);
+
+        assertThat(apiResponse.getData().getId()).isEqualTo(3L);
+        assertThat(apiResponse.getData().getEmployeeName()).isEqualTo("Sumit Punj");
+        assertThat(apiResponse.getData().getEmployeeSalary()).isEqualTo(1000.5d);
+        assertThat(apiResponse.getData().getEmployeeAge()).isEqualTo(30);
+        assertThat(apiResponse.getData().getProfileImage()).isNull();
+    }
+
+    @Test
+    public void testDecode_DeleteResponseCarriesNoEmployee() throws Exception {
+        EmployeeApiResponse apiResponse = (EmployeeApiResponse) decoder.decode(response("""
+                {"status":"success","data":"2","message":"Successfully! Record has been deleted"}
+                """), EmployeeApiResponse.class);
+
+        assertThat(apiResponse.isSuccessResponse()).isTrue();
+        assertThat(apiResponse.getData()).isNull();
+    }
+
+    @Test
+    public void testDecode_RejectsMalformedList() {
+        assertThatThrownBy(() -> decoder.decode(response("""
+                {"status":"success","data":{"id":1}}
+                """), EmployeeListApiResponse.class)).isInstanceOf(JsonParseException.class);
+    }
+
+    @Test
+    public void testDecode_RejectsNonNumericValuesInsteadOfReadingZero() {
+        assertThatThrownBy(() -> decoder.decode(response("""
+                {"status":"success","data":{"id":3,"employee_name":"Sumit Punj","employee_salary":"n/a","employee_age":30}}
+                """), EmployeeApiResponse.class))
+                .isInstanceOf(JsonParseException.class)
+                .hasMessageContaining("employee_salary");
+        assertThatThrownBy(() -> decoder.decode(response("""
+                {"status":"success","data":[{"id":"abc","employee_name":"Sumit Punj"}]}
+                """), EmployeeListApiResponse.class)).isInstanceOf(JsonParseException.class);
+        assertThatThrownBy(() -> decoder.decode(response("""
+                {"status":"success","data":{"id":3,"employee_age":true}}
+                """), EmployeeApiResponse.class)).isInstanceOf(JsonParseException.class);
+    }
+
+    @Test
+    public void testDecode_LeavesOtherTypesToDelegate() throws Exception {
+        assertThat(decoder.decode(response("ok"), String.class)).isEqualTo("delegated");
+    }
+
+    private static Response response(String body) {
+        Request request = Request.create(Request.HttpMethod.GET, "http://localhost/api/v1/employees", Map.of(), null,
+                StandardCharsets.UTF_8, null);
+        return Response.builder().status(200).request(request).body(body, StandardCharsets.UTF_8).build();
+    }
+}
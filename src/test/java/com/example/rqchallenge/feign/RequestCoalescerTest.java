@@ -0,0 +1,107 @@
+package com.example.rqchallenge.feign;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class RequestCoalescerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final RequestCoalescer requestCoalescer = new RequestCoalescer(meterRegistry);
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    public void teardown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testExecute_ConcurrentCallsShareOneUpstreamCall() throws Exception {
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        CountDownLatch upstreamStarted = new CountDownLatch(1);
+        CountDownLatch releaseUpstream = new CountDownLatch(1);
+
+        Future<String> leader = executor.submit(() -> requestCoalescer.execute("getAllEmployees", "", () -> {
+            upstreamCalls.incrementAndGet();
+            upstreamStarted.countDown();
+            await(releaseUpstream);
+            return "employees";
+        }));
+        upstreamStarted.await();
+        Future<String> follower = executor.submit(() -> requestCoalescer.execute("getAllEmployees", "", () -> {
+            upstreamCalls.incrementAndGet();
+            return "second call";
+        }));
+        waitUntilCoalesced();
+        releaseUpstream.countDown();
+
+        assertThat(leader.get(1, TimeUnit.SECONDS)).isEqualTo("employees");
+        assertThat(follower.get(1, TimeUnit.SECONDS)).isEqualTo("employees");
+        assertThat(upstreamCalls.get()).isEqualTo(1);
+        assertThat(requestCoalescer.getCoalescingRatio()).isEqualTo(0.5d);
+        assertThat(meterRegistry.get("employee.api.coalescing.ratio").gauge().value()).isEqualTo(0.5d);
+    }
+
+    @Test
+    public void testExecute_DifferentKeysAreNotCoalesced() {
+        assertThat(requestCoalescer.execute("getEmployeeById", "1", () -> "Punit")).isEqualTo("Punit");
+        assertThat(requestCoalescer.execute("getEmployeeById", "2", () -> "Rohit")).isEqualTo("Rohit");
+        assertThat(requestCoalescer.getCoalescingRatio()).isEqualTo(0d);
+    }
+
+    @Test
+    public void testExecute_WhenCallFails() {
+        assertThatThrownBy(() -> requestCoalescer.execute("getAllEmployees", "", () -> {
+            throw new IllegalStateException("upstream down");
+        })).isInstanceOf(IllegalStateException.class).hasMessage("upstream down");
+
+        assertThat(requestCoalescer.execute("getAllEmployees", "", () -> "recovered")).isEqualTo("recovered");
+    }
+
+    @Test
+    public void testExecute_WhenCallThrowsError() throws Exception {
+        CountDownLatch upstreamStarted = new CountDownLatch(1);
+        CountDownLatch releaseUpstream = new CountDownLatch(1);
+
+        Future<String> leader = executor.submit(() -> requestCoalescer.execute("getAllEmployees", "", () -> {
+            upstreamStarted.countDown();
+            await(releaseUpstream);
+            throw new StackOverflowError("decoder recursion");
+        }));
+        upstreamStarted.await();
+        Future<String> follower = executor.submit(() -> requestCoalescer.execute("getAllEmployees", "", () -> "second call"));
+        waitUntilCoalesced();
+        releaseUpstream.countDown();
+
+        assertThatThrownBy(() -> leader.get(1, TimeUnit.SECONDS)).hasCauseInstanceOf(StackOverflowError.class);
+        assertThatThrownBy(() -> follower.get(1, TimeUnit.SECONDS)).hasCauseInstanceOf(StackOverflowError.class);
+        assertThat(requestCoalescer.execute("getAllEmployees", "", () -> "recovered")).isEqualTo("recovered");
+    }
+
+    private void waitUntilCoalesced() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 1000;
+        while (requestCoalescer.getCoalescingRatio() == 0d && System.currentTimeMillis() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
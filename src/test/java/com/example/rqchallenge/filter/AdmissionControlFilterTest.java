@@ -0,0 +1,176 @@
+package com.example.rqchallenge.filter;
+
+import com.example.rqchallenge.config.EmployeeAdmissionProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.FilterChain;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AdmissionControlFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    public void testDoFilter_ShedsClientOverItsBucketWith429() throws Exception {
+        AdmissionControlFilter filter = new AdmissionControlFilter(clientRateLimited(), meterRegistry);
+
+        assertThat(filter(filter, "client-a", "10.0.0.1").getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(filter(filter, "client-a", "10.0.0.1").getStatus()).isEqualTo(HttpStatus.OK.value());
+        MockHttpServletResponse rejected = filter(filter, "client-a", "10.0.0.1");
+
+        assertThat(rejected.getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+        assertThat(rejected.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(filter(filter, "client-b", "10.0.0.1").getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(meterRegistry.counter("employee.admission.rejected", "reason", "client_rate").count()).isEqualTo(1d);
+    }
+
+    @Test
+    public void testDoFilter_KeysClientsWithoutHeaderByRemoteAddress() throws Exception {
+        AdmissionControlFilter filter = new AdmissionControlFilter(clientRateLimited(), meterRegistry);
+
+        filter(filter, null, "10.0.0.1");
+        filter(filter, null, "10.0.0.1");
+
+        assertThat(filter(filter, null, "10.0.0.1").getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+        assertThat(filter(filter, null, "10.0.0.2").getStatus()).isEqualTo(HttpStatus.OK.value());
+    }
+
+    @Test
+    public void testDoFilter_NoClientBucketsByDefault() throws Exception {
+        AdmissionControlFilter filter = new AdmissionControlFilter(new EmployeeAdmissionProperties(), meterRegistry);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(filter(filter, null, "10.0.0.1").getStatus()).isEqualTo(HttpStatus.OK.value());
+        }
+    }
+
+    @Test
+    public void testDoFilter_ShedsPastConcurrencyLimitWith503() throws Exception {
+        EmployeeAdmissionProperties properties = new EmployeeAdmissionProperties();
+        properties.getConcurrency().setInitialLimit(1);
+        properties.getConcurrency().setMinLimit(1);
+        AdmissionControlFilter filter = new AdmissionControlFilter(properties, meterRegistry);
+        CountDownLatch admitted = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        FilterChain blockingChain = (request, response) -> {
+            admitted.countDown();
+            try {
+                finish.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+        };
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(() -> {
+                filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/employee"), new MockHttpServletResponse(), blockingChain);
+                return null;
+            });
+            assertThat(admitted.await(5, TimeUnit.SECONDS)).isTrue();
+
+            MockHttpServletResponse rejected = filter(filter, "client-a", "10.0.0.1");
+
+            assertThat(rejected.getStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE.value());
+            assertThat(meterRegistry.counter("employee.admission.rejected", "reason", "concurrency").count()).isEqualTo(1d);
+        } finally {
+            finish.countDown();
+            executor.shutdown();
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        }
+        assertThat(filter(filter, "client-a", "10.0.0.1").getStatus()).isEqualTo(HttpStatus.OK.value());
+    }
+
+    @Test
+    public void testDoFilter_LowersLimitWhenRequestsAreSlow() throws Exception {
+        AdmissionControlFilter filter = new AdmissionControlFilter(latencySensitive(), meterRegistry);
+        FilterChain slowChain = (request, response) -> sleep(5);
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/employee"), new MockHttpServletResponse(), slowChain);
+
+        assertThat(limit()).isEqualTo(50d);
+        assertThat(meterRegistry.get("employee.admission.in.flight").gauge().value()).isZero();
+    }
+
+    @Test
+    public void testDoFilter_UpstreamErrorStatusesDoNotLowerLimit() throws Exception {
+        AdmissionControlFilter filter = new AdmissionControlFilter(new EmployeeAdmissionProperties(), meterRegistry);
+        FilterChain unavailableChain = (request, response) ->
+                ((MockHttpServletResponse) response).setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+
+        for (int i = 0; i < 10; i++) {
+            filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/employee"), new MockHttpServletResponse(), unavailableChain);
+        }
+
+        assertThat(limit()).isEqualTo(50d);
+    }
+
+    @Test
+    public void testDoFilter_StreamedResponsesReleaseWithoutLatencySample() throws Exception {
+        AdmissionControlFilter filter = new AdmissionControlFilter(latencySensitive(), meterRegistry);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/employee");
+        request.setAsyncSupported(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain asyncChain = (chainRequest, chainResponse) -> chainRequest.startAsync();
+
+        filter.doFilter(request, response, asyncChain);
+        AsyncContext asyncContext = request.getAsyncContext();
+        assertThat(meterRegistry.get("employee.admission.in.flight").gauge().value()).isEqualTo(1d);
+        sleep(5);
+        asyncContext.complete();
+
+        assertThat(meterRegistry.get("employee.admission.in.flight").gauge().value()).isZero();
+        assertThat(limit()).isEqualTo(100d);
+    }
+
+    private double limit() {
+        return meterRegistry.get("employee.admission.limit").gauge().value();
+    }
+
+    private static EmployeeAdmissionProperties clientRateLimited() {
+        EmployeeAdmissionProperties properties = new EmployeeAdmissionProperties();
+        properties.getClientRateLimit().setEnabled(true);
+        properties.getClientRateLimit().setPermitsPerSecond(0.001d);
+        properties.getClientRateLimit().setBurst(2);
+        return properties;
+    }
+
+    private static EmployeeAdmissionProperties latencySensitive() {
+        EmployeeAdmissionProperties properties = new EmployeeAdmissionProperties();
+        properties.getConcurrency().setInitialLimit(100);
+        properties.getConcurrency().setBackoffRatio(0.5d);
+        properties.getConcurrency().setLatencyThreshold(Duration.ofMillis(1));
+        return properties;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static MockHttpServletResponse filter(AdmissionControlFilter filter, String clientId, String remoteAddress) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/employee");
+        request.setRemoteAddr(remoteAddress);
+        if (null != clientId) {
+            request.addHeader("X-Client-Id", clientId);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.rqchallenge.index;
+
+import com.example.rqchallenge.model.Employee;
+import com.example.rqchallenge.model.EmployeeField;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class EmployeeTableTest {
+
+    private final List<Employee> employees = List.of(
+            buildEmployee(1L, "Punit Jain", 10000d, 34),
+            buildEmployee(2L, "Rohit Mehta", null, 35),
+            buildEmployee(3L, "Punit Jain", 7000d, null),
+            buildEmployee(4L, null, 5000d, 29));
+
+    private final EmployeeTable table = EmployeeTable.of(employees);
+
+    @Test
+    public void testRows_MaterializeEveryColumn() {
+        assertThat(table.rows())
+                .usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyElementsOf(employees);
+    }
+
+    @Test
+    public void testNamesAreDictionaryEncoded() {
+        assertThat(table.nameDictionary()).containsExactlyInAnyOrder("Punit Jain", "Rohit Mehta");
+        assertThat(table.nameCode(0)).isEqualTo(table.nameCode(2));
+        assertThat(table.nameCode(3)).isEqualTo(-1);
+    }
+
+    @Test
+    public void testRowOf() {
+        assertThat(table.rowOf(3L)).isEqualTo(2);
+        assertThat(table.rowOf(5L)).isEqualTo(-1);
+        assertThat(table.withRow(buildEmployee(0L, "Sumit Shah", 1000d, 40)).rowOf(0L)).isEqualTo(4);
+    }
+
+    @Test
+    public void testWithRowAndWithoutRow() {
+        EmployeeTable updated = table.withoutRow(1).withRow(buildEmployee(9L, "Sumit Shah", 1000d, 40));
+
+        assertThat(updated.rows()).extracting(Employee::getId).containsExactly(1L, 3L, 4L, 9L);
+        assertThat(updated.row(3).getEmployeeName()).isEqualTo("Sumit Shah");
+        assertThat(table.size()).isEqualTo(4);
+    }
+
+    @Test
+    public void testWithRow_TablesSharingColumnsKeepTheirOwnRows() {
+        EmployeeTable base = table.withRow(buildEmployee(5L, "Sumit Shah", 1000d, 40));
+        EmployeeTable left = base.withRow(buildEmployee(6L, "Anita Rao", 2000d, 41));
+        EmployeeTable right = base.withRow(buildEmployee(7L, "Kiran Das", 3000d, 42));
+
+        assertThat(base.rows()).extracting(Employee::getId).containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(left.rows()).extracting(Employee::getId).containsExactly(1L, 2L, 3L, 4L, 5L, 6L);
+        assertThat(right.rows()).extracting(Employee::getId).containsExactly(1L, 2L, 3L, 4L, 5L, 7L);
+        assertThat(left.row(5).getEmployeeName()).isEqualTo("Anita Rao");
+        assertThat(right.row(5).getEmployeeName()).isEqualTo("Kiran Das");
+        assertThat(right.nameDictionary()).doesNotContain("Anita Rao");
+        assertThat(left.withoutRow(0).withRow(buildEmployee(8L, null, null, null)).rows())
+                .extracting(Employee::getId).containsExactly(2L, 3L, 4L, 5L, 6L, 8L);
+        assertThat(left.rowOf(7L)).isEqualTo(-1);
+    }
+
+    @Test
+    public void testWithChanges() {
+        BitSet removed = new BitSet();
+        removed.set(1);
+        EmployeeTable changed = table.withChanges(Map.of(2, buildEmployee(3L, "Sumit Shah", 7500d, 31)), removed,
+                List.of(buildEmployee(5L, "Punit Jain", 900d, 22)));
+
+        assertThat(changed.rows()).extracting(Employee::getId).containsExactly(1L, 3L, 4L, 5L);
+        assertThat(changed.matches(1, buildEmployee(3L, "Sumit Shah", 7500d, 31))).isTrue();
+        assertThat(changed.nameCode(3)).isEqualTo(changed.nameCode(0));
+        assertThat(changed.rowOf(4L)).isEqualTo(2);
+        assertThat(table.matches(2, employees.get(2))).isTrue();
+    }
+
+    @Test
+    public void testMissingValues() {
+        assertThat(table.hasValue(EmployeeField.EMPLOYEE_SALARY, 1)).isFalse();
+        assertThat(table.hasValue(EmployeeField.EMPLOYEE_AGE, 2)).isFalse();
+        assertThat(table.hasValue(EmployeeField.EMPLOYEE_NAME, 3)).isFalse();
+        assertThat(table.hasValue(EmployeeField.PROFILE_IMAGE, 0)).isTrue();
+    }
+
+    @Test
+    public void testWriteToAndReadFrom_RoundTrip() {
+        EmployeeTable written = table.withRow(buildEmployee(5L, "Zo\u00eb \u00c5ngstr\u00f6m \uD83D\uDE00", 1200d, 41));
+        ByteBuffer buffer = ByteBuffer.allocate((int) written.serializedSize());
+
+        written.writeTo(buffer);
+        EmployeeTable read = EmployeeTable.readFrom(buffer.flip());
+
+        assertThat(buffer.hasRemaining()).isFalse();
+        assertThat(read.rows()).usingRecursiveFieldByFieldElementComparator().containsExactlyElementsOf(written.rows());
+        assertThat(read.rowOf(5L)).isEqualTo(4);
+    }
+
+    @Test
+    public void testReadFrom_RejectsCorruptLengths() {
+        ByteBuffer buffer = ByteBuffer.allocate((int) table.serializedSize());
+        table.writeTo(buffer);
+        buffer.flip().putInt(0, Integer.MAX_VALUE);
+
+        assertThatThrownBy(() -> EmployeeTable.readFrom(buffer)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Employee buildEmployee(Long id, String name, Double salary, Integer age) {
+        return Employee.builder().id(id).employeeName(name).employeeSalary(salary).employeeAge(age).profileImage("img-" + id).build();
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.rqchallenge.index;
+
+import com.example.rqchallenge.model.Employee;
+import com.example.rqchallenge.model.NameSearchMode;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class NameSearchIndexTest {
+
+    private final List<Employee> employees = List.of(
+            buildEmployee(1L, "Punit Jain"),
+            buildEmployee(2L, "Rohit Mehta"),
+            buildEmployee(3L, "Sumit Punj"),
+            buildEmployee(4L, null),
+            buildEmployee(5L, "punita"));
+
+    private final NameSearchIndex nameSearchIndex = NameSearchIndex.build(employees);
+
+    @Test
+    public void testContains_IsCaseSensitiveByDefault() {
+        assertThat(search("Pun", NameSearchMode.CONTAINS, false)).containsExactly(1L, 3L);
+        assertThat(search("Punit", NameSearchMode.CONTAINS, false)).containsExactly(1L);
+    }
+
+    @Test
+    public void testContains_IgnoringCase() {
+        assertThat(search("PUN", NameSearchMode.CONTAINS, true)).containsExactly(1L, 3L, 5L);
+    }
+
+    @Test
+    public void testContains_ShortSearchString() {
+        assertThat(search("it", NameSearchMode.CONTAINS, false)).containsExactly(1L, 2L, 3L, 5L);
+    }
+
+    @Test
+    public void testContains_WhenNoMatch() {
+        assertThat(search("xyz", NameSearchMode.CONTAINS, false)).isEmpty();
+    }
+
+    @Test
+    public void testPrefix() {
+        assertThat(search("Pun", NameSearchMode.PREFIX, false)).containsExactly(1L);
+        assertThat(search("pun", NameSearchMode.PREFIX, true)).containsExactly(1L, 5L);
+    }
+
+    @Test
+    public void testContains_MatchesLinearScanOnLargeRoster() {
+        List<Employee> roster = IntStream.range(0, 10_000)
+                .mapToObj(i -> buildEmployee((long) i, "Employee " + Integer.toHexString(i * 31)))
+                .toList();
+
+        NameSearchIndex index = NameSearchIndex.build(roster);
+
+        List<Employee> expected = roster.stream().filter(employee -> employee.getEmployeeName().contains("e 1a")).toList();
+        assertThat(index.search("e 1a", NameSearchMode.CONTAINS, false)).containsExactlyElementsOf(expected);
+    }
+
+    private List<Long> search(String searchString, NameSearchMode mode, boolean ignoreCase) {
+        return nameSearchIndex.search(searchString, mode, ignoreCase).stream().map(Employee::getId).toList();
+    }
+
+    private Employee buildEmployee(Long id, String name) {
+        return Employee.builder().id(id).employeeName(name).employeeAge(30).employeeSalary(1000d).build();
+    }
+}
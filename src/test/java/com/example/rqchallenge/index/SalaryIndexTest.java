@@ -0,0 +1,107 @@
+package com.example.rqchallenge.index;
+
+import com.example.rqchallenge.model.Employee;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SalaryIndexTest {
+
+    @Test
+    public void testBuild_TopEarnersMatchSortedRoster() {
+        List<Employee> employees = buildEmployees(500);
+
+        SalaryIndex salaryIndex = SalaryIndex.build(employees);
+
+        assertThat(salaryIndex.getTopEarners(10)).containsExactlyElementsOf(sortedBySalary(employees).subList(0, 10));
+        assertThat(salaryIndex.getHighestSalary()).hasValue(sortedBySalary(employees).get(0).getEmployeeSalary());
+    }
+
+    @Test
+    public void testBuild_TiesKeepRosterOrder() {
+        List<Employee> employees = List.of(
+                buildEmployee(1L, 5000d),
+                buildEmployee(2L, 7000d),
+                buildEmployee(3L, 5000d),
+                buildEmployee(4L, 7000d));
+
+        SalaryIndex salaryIndex = SalaryIndex.build(employees);
+
+        assertThat(salaryIndex.getTopEarners(10)).extracting(Employee::getId).containsExactly(2L, 4L, 1L, 3L);
+    }
+
+    @Test
+    public void testBuild_WhenNoSalaries() {
+        SalaryIndex salaryIndex = SalaryIndex.build(List.of(buildEmployee(1L, null)));
+
+        assertThat(salaryIndex.getHighestSalary()).isEmpty();
+        assertThat(salaryIndex.getTopEarners(10)).isEmpty();
+    }
+
+    @Test
+    public void testWithEmployee() {
+        List<Employee> employees = buildEmployees(100);
+        Employee highest = buildEmployee(1000L, 1_000_000d);
+
+        SalaryIndex salaryIndex = SalaryIndex.build(employees).withEmployee(highest);
+
+        assertThat(salaryIndex.getHighestSalary()).hasValue(1_000_000d);
+        assertThat(salaryIndex.getTopEarners(1)).containsExactly(highest);
+    }
+
+    @Test
+    public void testWithoutEmployee_RebuildsWhenTopEarnersRunLow() {
+        List<Employee> employees = new ArrayList<>(buildEmployees(200));
+        SalaryIndex salaryIndex = SalaryIndex.build(employees, 16);
+
+        for (int i = 0; i < 40; i++) {
+            Employee removed = salaryIndex.getTopEarners(1).get(0);
+            employees.remove(removed);
+            salaryIndex = salaryIndex.withoutEmployee(removed, employees);
+        }
+
+        assertThat(salaryIndex.getTopEarners(10)).containsExactlyElementsOf(sortedBySalary(employees).subList(0, 10));
+    }
+
+    @Test
+    public void testWithEmployee_LowEarnerAfterRemovalsDoesNotJumpUnindexedEmployees() {
+        List<Employee> employees = new ArrayList<>(buildEmployees(200));
+        SalaryIndex salaryIndex = SalaryIndex.build(employees, 64);
+
+        for (int round = 0; round < 2; round++) {
+            for (int i = 0; i < 31; i++) {
+                Employee removed = salaryIndex.getTopEarners(1).get(0);
+                employees.remove(removed);
+                salaryIndex = salaryIndex.withoutEmployee(removed, employees);
+            }
+            for (int i = 0; i < 31; i++) {
+                Employee added = buildEmployee(1000L + round * 100 + i, 1d);
+                employees.add(added);
+                salaryIndex = salaryIndex.withEmployee(added);
+            }
+        }
+
+        assertThat(salaryIndex.getTopEarners(10)).containsExactlyElementsOf(sortedBySalary(employees).subList(0, 10));
+    }
+
+    private List<Employee> sortedBySalary(List<Employee> employees) {
+        return employees.stream()
+                .sorted(Comparator.comparingDouble(Employee::getEmployeeSalary).reversed())
+                .toList();
+    }
+
+    private List<Employee> buildEmployees(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> buildEmployee((long) i, (double) ((i * 7919) % 1000) * 100))
+                .toList();
+    }
+
+    private Employee buildEmployee(Long id, Double salary) {
+        return Employee.builder().id(id).employeeName("Employee " + id).employeeAge(30).employeeSalary(salary).build();
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.rqchallenge.index;
+
+import com.example.rqchallenge.model.Employee;
+import com.example.rqchallenge.model.EmployeeField;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SortedEmployeeViewTest {
+
+    private final EmployeeTable table = EmployeeTable.of(List.of(
+            buildEmployee(1L, 5000d),
+            buildEmployee(2L, null),
+            buildEmployee(3L, 7000d),
+            buildEmployee(4L, 5000d),
+            buildEmployee(5L, 7000d)));
+
+    private final SortedEmployeeView view = SortedEmployeeView.build(table, EmployeeField.EMPLOYEE_SALARY);
+
+    @Test
+    public void testSlice_AscendingKeepsRosterOrderWithinTies() {
+        assertThat(view.slice(0, 10, false)).extracting(Employee::getId).containsExactly(1L, 4L, 3L, 5L, 2L);
+    }
+
+    @Test
+    public void testSlice_DescendingKeepsRosterOrderWithinTies() {
+        assertThat(view.slice(0, 10, true)).extracting(Employee::getId).containsExactly(3L, 5L, 1L, 4L, 2L);
+        assertThat(view.slice(1, 3, true)).extracting(Employee::getId).containsExactly(5L, 1L);
+    }
+
+    private static Employee buildEmployee(long id, Double salary) {
+        return Employee.builder().id(id).employeeName("Employee " + id).employeeSalary(salary).employeeAge(30).build();
+    }
+}
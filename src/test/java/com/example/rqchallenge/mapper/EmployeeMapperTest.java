@@ -0,0 +1,65 @@
+package com.example.rqchallenge.mapper;
+
+import com.example.rqchallenge.feign.dto.EmployeeDto;
+import com.example.rqchallenge.model.CreateEmployeeRequest;
+import com.example.rqchallenge.model.Employee;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EmployeeMapperTest {
+
+    private final EmployeeMapper employeeMapper = new EmployeeMapper();
+
+    @Test
+    public void testMapToModelList_MatchesObjectMapperConversion() {
+        List<EmployeeDto> employeeDtos = buildEmployeeDtoList();
+
+        List<Employee> employees = employeeMapper.mapToModelList(employeeDtos, Employee.class);
+
+        List<Employee> expected = employeeDtos.stream()
+                .map(employeeDto -> IEmployeeMapper.objectMapper.convertValue(employeeDto, Employee.class))
+                .toList();
+        assertThat(employees)
+                .usingRecursiveFieldByFieldElementComparator()
+                .isEqualTo(expected);
+    }
+
+    @Test
+    public void testMaptoDto() {
+        Employee employee = Employee.builder().id(1L).employeeName("Punit Jain").employeeAge(34).employeeSalary(10000d).profileImage("123").build();
+
+        EmployeeDto employeeDto = employeeMapper.maptoDto(employee);
+
+        assertThat(employeeDto).usingRecursiveComparison().isEqualTo(buildEmployeeDtoList().get(0));
+    }
+
+    @Test
+    public void testMapToType_CreateEmployeeRequest() {
+        CreateEmployeeRequest createRequest = CreateEmployeeRequest.builder().name("Rohit Mehta").age(35).salary(5000d).build();
+
+        Employee employee = employeeMapper.mapToType(createRequest, Employee.class);
+
+        assertThat(employee.getEmployeeName()).isEqualTo("Rohit Mehta");
+        assertThat(employee.getEmployeeAge()).isEqualTo(35);
+        assertThat(employee.getEmployeeSalary()).isEqualTo(5000d);
+    }
+
+    @Test
+    public void testMapToType_FallsBackToObjectMapper() {
+        Employee employee = employeeMapper.mapToType(Map.of("id", 7, "name", "Sumit", "salary", 100.0, "age", 40), Employee.class);
+
+        assertThat(employee.getId()).isEqualTo(7L);
+        assertThat(employee.getEmployeeName()).isEqualTo("Sumit");
+        assertThat(employee.getEmployeeAge()).isEqualTo(40);
+    }
+
+    private List<EmployeeDto> buildEmployeeDtoList() {
+        return List.of(
+                EmployeeDto.builder().id(1L).employeeName("Punit Jain").employeeAge(34).employeeSalary(10000).profileImage("123").build(),
+                EmployeeDto.builder().id(2L).employeeName("Rohit Mehta").employeeAge(35).employeeSalary(5000).profileImage("456").build());
+    }
+}
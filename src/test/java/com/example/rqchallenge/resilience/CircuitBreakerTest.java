@@ -0,0 +1,103 @@
+package com.example.rqchallenge.resilience;
+
+import com.example.rqchallenge.config.EmployeeApiResilienceProperties.CircuitBreakerSettings;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CircuitBreakerTest {
+
+    private static final long FAST = Duration.ofMillis(10).toNanos();
+    private static final long SLOW = Duration.ofSeconds(5).toNanos();
+
+    private final AtomicLong now = new AtomicLong();
+
+    private CircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    public void setup() {
+        CircuitBreakerSettings settings = new CircuitBreakerSettings();
+        settings.setSlidingWindowSize(4);
+        settings.setMinimumCalls(4);
+        settings.setFailureRateThreshold(50f);
+        settings.setSlowCallRateThreshold(75f);
+        settings.setSlowCallDuration(Duration.ofSeconds(1));
+        settings.setWaitInOpenState(Duration.ofSeconds(30));
+        settings.setPermittedCallsInHalfOpenState(2);
+        circuitBreaker = new CircuitBreaker(settings, now::get);
+    }
+
+    @Test
+    public void testStaysClosedBelowMinimumCalls() {
+        record(true, FAST, 3);
+
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+    }
+
+    @Test
+    public void testOpensOnFailureRate() {
+        record(false, FAST, 2);
+        record(true, FAST, 2);
+
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+    }
+
+    @Test
+    public void testOpensOnSlowCallRate() {
+        record(false, FAST, 1);
+        record(false, SLOW, 3);
+
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    public void testOldOutcomesSlideOutOfWindow() {
+        record(true, FAST, 1);
+        record(false, FAST, 3);
+        record(true, FAST, 1);
+
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    public void testHalfOpenClosesAfterSuccessfulTrialCalls() {
+        record(true, FAST, 4);
+        now.addAndGet(Duration.ofSeconds(30).toNanos());
+
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        circuitBreaker.onResult(false, FAST);
+        circuitBreaker.onResult(false, FAST);
+
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    public void testHalfOpenReopensWhenTrialCallsFail() {
+        record(true, FAST, 4);
+        now.addAndGet(Duration.ofSeconds(30).toNanos());
+
+        circuitBreaker.tryAcquirePermission();
+        circuitBreaker.tryAcquirePermission();
+        circuitBreaker.onResult(true, FAST);
+        circuitBreaker.onResult(false, FAST);
+
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+    }
+
+    private void record(boolean failure, long durationNanos, int times) {
+        for (int i = 0; i < times; i++) {
+            circuitBreaker.tryAcquirePermission();
+            circuitBreaker.onResult(failure, durationNanos);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.rqchallenge.resilience;
+
+import com.example.rqchallenge.config.EmployeeApiResilienceProperties;
+import com.example.rqchallenge.exception.UpstreamUnavailableException;
+import feign.Request;
+import feign.RetryableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class EmployeeApiGuardTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final EmployeeApiResilienceProperties resilienceProperties = new EmployeeApiResilienceProperties();
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    public void teardown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testExecute_RejectsWhenBulkheadFull() throws Exception {
+        resilienceProperties.setBulkhead(new EmployeeApiResilienceProperties.BulkheadSettings(1, Duration.ofMillis(10)));
+        EmployeeApiGuard employeeApiGuard = new EmployeeApiGuard(resilienceProperties, meterRegistry);
+        CountDownLatch callStarted = new CountDownLatch(1);
+        CountDownLatch releaseCall = new CountDownLatch(1);
+
+        Future<String> slowCall = executor.submit(() -> employeeApiGuard.execute("getEmployeeById", () -> {
+            callStarted.countDown();
+            await(releaseCall);
+            return "Punit";
+        }));
+        callStarted.await();
+
+        assertThatThrownBy(() -> employeeApiGuard.execute("getEmployeeById", () -> "Rohit"))
+                .isInstanceOf(UpstreamUnavailableException.class)
+                .hasMessageContaining("Too many concurrent calls");
+        assertThat(employeeApiGuard.execute("getAllEmployees", () -> "other operation")).isEqualTo("other operation");
+
+        releaseCall.countDown();
+        assertThat(slowCall.get(1, TimeUnit.SECONDS)).isEqualTo("Punit");
+        assertThat(meterRegistry.get("employee.api.calls.rejected").tag("reason", "bulkhead_full").counter().count()).isEqualTo(1d);
+    }
+
+    @Test
+    public void testExecute_FailsFastWhenCircuitOpen() {
+        resilienceProperties.getCircuitBreaker().setSlidingWindowSize(1);
+        resilienceProperties.getCircuitBreaker().setMinimumCalls(1);
+        EmployeeApiGuard employeeApiGuard = new EmployeeApiGuard(resilienceProperties, meterRegistry);
+
+        assertThatThrownBy(() -> employeeApiGuard.execute("getAllEmployees", () -> {
+            throw new RetryableException(-1, "connect timed out", Request.HttpMethod.GET, null,
+                    Request.create(Request.HttpMethod.GET, "/api/v1/employees", Map.of(), null, StandardCharsets.UTF_8, null));
+        })).isInstanceOf(RetryableException.class);
+
+        assertThat(employeeApiGuard.getCircuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThatThrownBy(() -> employeeApiGuard.execute("getAllEmployees", () -> "employees"))
+                .isInstanceOf(UpstreamUnavailableException.class);
+    }
+
+    @Test
+    public void testExecute_ErrorHandsBackHalfOpenPermit() {
+        resilienceProperties.getCircuitBreaker().setSlidingWindowSize(1);
+        resilienceProperties.getCircuitBreaker().setMinimumCalls(1);
+        resilienceProperties.getCircuitBreaker().setPermittedCallsInHalfOpenState(1);
+        resilienceProperties.getCircuitBreaker().setWaitInOpenState(Duration.ZERO);
+        resilienceProperties.setBulkhead(new EmployeeApiResilienceProperties.BulkheadSettings(1, Duration.ofMillis(10)));
+        EmployeeApiGuard employeeApiGuard = new EmployeeApiGuard(resilienceProperties, meterRegistry);
+        assertThatThrownBy(() -> employeeApiGuard.execute("getAllEmployees", () -> {
+            throw new RetryableException(-1, "connect timed out", Request.HttpMethod.GET, null,
+                    Request.create(Request.HttpMethod.GET, "/api/v1/employees", Map.of(), null, StandardCharsets.UTF_8, null));
+        })).isInstanceOf(RetryableException.class);
+
+        assertThatThrownBy(() -> employeeApiGuard.execute("getAllEmployees", () -> {
+            throw new StackOverflowError("decoder recursion");
+        })).isInstanceOf(StackOverflowError.class);
+
+        assertThat(employeeApiGuard.execute("getAllEmployees", () -> "employees")).isEqualTo("employees");
+        assertThat(employeeApiGuard.getCircuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.rqchallenge.resilience;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RateLimiterTest {
+
+    @Test
+    public void testTryAcquire_AllowsBurstThenRejectsPastMaxWait() {
+        RateLimiter rateLimiter = new RateLimiter(1d, 1d, 3, Duration.ofMillis(10));
+
+        assertThat(rateLimiter.tryAcquire()).isTrue();
+        assertThat(rateLimiter.tryAcquire()).isTrue();
+        assertThat(rateLimiter.tryAcquire()).isTrue();
+        assertThat(rateLimiter.tryAcquire()).isFalse();
+    }
+
+    @Test
+    public void testTryAcquire_WaitsForNextTokenWithinMaxWait() {
+        RateLimiter rateLimiter = new RateLimiter(20d, 1d, 1, Duration.ofSeconds(1));
+
+        long start = System.nanoTime();
+        assertThat(rateLimiter.tryAcquire()).isTrue();
+        assertThat(rateLimiter.tryAcquire()).isTrue();
+        assertThat(rateLimiter.tryAcquire()).isTrue();
+
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(90));
+    }
+
+    @Test
+    public void testOnThrottled_HalvesRateOncePerBurstOfRejections() {
+        RateLimiter rateLimiter = new RateLimiter(8d, 1d, 1, Duration.ofSeconds(1));
+        long sentAt = System.nanoTime();
+
+        rateLimiter.onThrottled(sentAt, 0L);
+        rateLimiter.onThrottled(sentAt, 0L);
+
+        assertThat(rateLimiter.getPermitsPerSecond()).isEqualTo(4d);
+        rateLimiter.onThrottled(System.nanoTime(), 0L);
+        assertThat(rateLimiter.getPermitsPerSecond()).isEqualTo(2d);
+    }
+
+    @Test
+    public void testOnThrottled_RetryAfterHoldsCalls() {
+        RateLimiter rateLimiter = new RateLimiter(100d, 1d, 5, Duration.ofMillis(500));
+
+        rateLimiter.onThrottled(System.nanoTime(), TimeUnit.SECONDS.toNanos(2));
+
+        assertThat(rateLimiter.tryAcquire()).isFalse();
+    }
+
+    @Test
+    public void testOnSuccess_RecoversTowardsConfiguredRate() {
+        RateLimiter rateLimiter = new RateLimiter(10d, 1d, 1, Duration.ofSeconds(1));
+        rateLimiter.onThrottled(System.nanoTime(), 0L);
+
+        for (int i = 0; i < 500; i++) {
+            rateLimiter.onSuccess();
+        }
+
+        assertThat(rateLimiter.getPermitsPerSecond()).isEqualTo(10d);
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.rqchallenge.retry;
+
+import com.example.rqchallenge.config.EmployeeApiRetryProperties;
+import feign.FeignException;
+import feign.Request;
+import feign.RetryableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.retry.RetryContext;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EmployeeApiRetryPolicyTest {
+
+    private static final Request REQUEST = Request.create(Request.HttpMethod.GET, "/api/v1/employees", Map.of(), null,
+            StandardCharsets.UTF_8, null);
+
+    private final EmployeeApiRetryProperties retryProperties = new EmployeeApiRetryProperties();
+
+    private final Counter budgetExhausted = Counter.builder("employee.api.retry.budget.exhausted").register(new SimpleMeterRegistry());
+
+    @Test
+    public void testRetriesTransientFailuresUpToMaxAttempts() {
+        EmployeeApiRetryPolicy retryPolicy = policy("getAllEmployees", new RetryBudget(0.2d, 100d));
+        RetryContext context = retryPolicy.open(null);
+
+        assertThat(retryPolicy.canRetry(context)).isTrue();
+        retryPolicy.registerThrowable(context, serverError());
+        assertThat(retryPolicy.canRetry(context)).isTrue();
+        retryPolicy.registerThrowable(context, serverError());
+        assertThat(retryPolicy.canRetry(context)).isTrue();
+        retryPolicy.registerThrowable(context, serverError());
+        assertThat(retryPolicy.canRetry(context)).isFalse();
+    }
+
+    @Test
+    public void testDoesNotRetryNonIdempotentMethod() {
+        EmployeeApiRetryPolicy retryPolicy = policy("createEmployee", new RetryBudget(0.2d, 100d));
+        RetryContext context = retryPolicy.open(null);
+
+        retryPolicy.registerThrowable(context, serverError());
+
+        assertThat(retryPolicy.canRetry(context)).isFalse();
+    }
+
+    @Test
+    public void testDoesNotRetryClientErrors() {
+        EmployeeApiRetryPolicy retryPolicy = policy("getEmployeeById", new RetryBudget(0.2d, 100d));
+        RetryContext context = retryPolicy.open(null);
+
+        retryPolicy.registerThrowable(context, new FeignException.BadRequest("bad request", REQUEST, null, Map.of()));
+        assertThat(retryPolicy.canRetry(context)).isFalse();
+
+        retryPolicy.registerThrowable(context, new IllegalStateException("not an upstream failure"));
+        assertThat(retryPolicy.canRetry(context)).isFalse();
+    }
+
+    @Test
+    public void testDoesNotRetryWhenRetryAfterExceedsMaxBackoff() {
+        EmployeeApiRetryPolicy retryPolicy = policy("getAllEmployees", new RetryBudget(0.2d, 100d));
+        RetryContext context = retryPolicy.open(null);
+
+        retryPolicy.registerThrowable(context, new RetryableException(503, "unavailable", Request.HttpMethod.GET,
+                new Date(System.currentTimeMillis() + 60_000), REQUEST));
+
+        assertThat(retryPolicy.canRetry(context)).isFalse();
+    }
+
+    @Test
+    public void testStopsRetryingOnceBudgetIsSpent() {
+        EmployeeApiRetryPolicy retryPolicy = policy("getAllEmployees", new RetryBudget(0d, 0d));
+
+        RetryContext first = retryPolicy.open(null);
+        retryPolicy.registerThrowable(first, serverError());
+        assertThat(retryPolicy.canRetry(first)).isTrue();
+
+        RetryContext second = retryPolicy.open(null);
+        retryPolicy.registerThrowable(second, serverError());
+        assertThat(retryPolicy.canRetry(second)).isFalse();
+        assertThat(budgetExhausted.count()).isEqualTo(1d);
+    }
+
+    private EmployeeApiRetryPolicy policy(String method, RetryBudget retryBudget) {
+        return new EmployeeApiRetryPolicy(retryProperties.resolve(method), retryBudget, budgetExhausted);
+    }
+
+    private static FeignException serverError() {
+        return new FeignException.InternalServerError("server error", REQUEST, null, Map.of());
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.rqchallenge.retry;
+
+import feign.Request;
+import feign.RetryableException;
+import org.junit.jupiter.api.Test;
+import org.springframework.retry.backoff.BackOffContext;
+import org.springframework.retry.context.RetryContextSupport;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class JitteredExponentialBackOffPolicyTest {
+
+    private final List<Long> sleeps = new ArrayList<>();
+
+    private final JitteredExponentialBackOffPolicy backOffPolicy = new JitteredExponentialBackOffPolicy(
+            Duration.ofMillis(200), Duration.ofSeconds(1), 2.0d, sleeps::add);
+
+    @Test
+    public void testDelayGrowsExponentiallyWithinJitterBounds() {
+        for (int i = 0; i < 100; i++) {
+            assertThat(backOffPolicy.jitteredDelay(1)).isBetween(100L, 200L);
+            assertThat(backOffPolicy.jitteredDelay(2)).isBetween(200L, 400L);
+            assertThat(backOffPolicy.jitteredDelay(3)).isBetween(400L, 800L);
+            assertThat(backOffPolicy.jitteredDelay(6)).isBetween(500L, 1000L);
+        }
+    }
+
+    @Test
+    public void testRetryAfterReplacesComputedDelay() {
+        RetryContextSupport retryContext = new RetryContextSupport(null);
+        retryContext.registerThrowable(new RetryableException(503, "unavailable", Request.HttpMethod.GET,
+                new Date(System.currentTimeMillis() + 3_000),
+                Request.create(Request.HttpMethod.GET, "/api/v1/employees", Map.of(), null, StandardCharsets.UTF_8, null)));
+        BackOffContext backOffContext = backOffPolicy.start(retryContext);
+
+        backOffPolicy.backOff(backOffContext);
+
+        assertThat(sleeps).hasSize(1);
+        assertThat(sleeps.get(0)).isBetween(2_000L, 3_000L);
+    }
+}
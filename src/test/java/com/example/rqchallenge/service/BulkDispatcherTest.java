@@ -0,0 +1,121 @@
+package com.example.rqchallenge.service;
+
+import com.example.rqchallenge.config.EmployeeBulkProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BulkDispatcherTest {
+
+    private BulkDispatcher bulkDispatcher;
+
+    @AfterEach
+    public void teardown() {
+        bulkDispatcher.shutdown();
+    }
+
+    @Test
+    public void testDispatch_RunsAtMostParallelismItemsAtOnce() {
+        bulkDispatcher = new BulkDispatcher(properties(3, 0));
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        List<Integer> results;
+        try (Stream<Integer> stream = bulkDispatcher.dispatch(IntStream.range(0, 30).boxed().toList(), (index, item) -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            sleep(5);
+            running.decrementAndGet();
+            return item * 2;
+        })) {
+            results = stream.toList();
+        }
+
+        assertThat(results).containsExactlyInAnyOrderElementsOf(IntStream.range(0, 30).map(i -> i * 2).boxed().toList());
+        assertThat(maxRunning.get()).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    public void testDispatch_StreamsResultsInCompletionOrder() {
+        bulkDispatcher = new BulkDispatcher(properties(2, 0));
+        CountDownLatch firstRead = new CountDownLatch(1);
+
+        List<String> results = new ArrayList<>();
+        try (Stream<String> stream = bulkDispatcher.dispatch(List.of("slow", "fast"), (index, item) -> {
+            if (index == 0) {
+                await(firstRead);
+            }
+            return item;
+        })) {
+            // The slow item only finishes once the fast one has been read, so the order does not hinge on timing
+            Iterator<String> iterator = stream.iterator();
+            results.add(iterator.next());
+            firstRead.countDown();
+            results.add(iterator.next());
+            assertThat(iterator.hasNext()).isFalse();
+        }
+
+        assertThat(results).containsExactly("fast", "slow");
+    }
+
+    @Test
+    public void testDispatch_CountWaitsForEveryItem() {
+        bulkDispatcher = new BulkDispatcher(properties(2, 0));
+        AtomicInteger completed = new AtomicInteger();
+
+        try (Stream<Integer> stream = bulkDispatcher.dispatch(IntStream.range(0, 6).boxed().toList(), (index, item) -> {
+            sleep(5);
+            completed.incrementAndGet();
+            return item;
+        })) {
+            assertThat(stream.count()).isEqualTo(6);
+        }
+
+        assertThat(completed.get()).isEqualTo(6);
+    }
+
+    @Test
+    public void testDispatch_PacesItemsToMaxRequestsPerSecond() {
+        bulkDispatcher = new BulkDispatcher(properties(4, 100));
+
+        long start = System.nanoTime();
+        try (Stream<Integer> stream = bulkDispatcher.dispatch(IntStream.range(0, 11).boxed().toList(), (index, item) -> item)) {
+            assertThat(stream.toList()).hasSize(11);
+        }
+
+        // 11 starts at 100 per second are spread over at least 100ms
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isGreaterThanOrEqualTo(100);
+    }
+
+    private EmployeeBulkProperties properties(int parallelism, double maxRequestsPerSecond) {
+        EmployeeBulkProperties bulkProperties = new EmployeeBulkProperties();
+        bulkProperties.setParallelism(parallelism);
+        bulkProperties.setMaxRequestsPerSecond(maxRequestsPerSecond);
+        return bulkProperties;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
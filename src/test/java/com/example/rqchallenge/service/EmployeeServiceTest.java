@@ -1,16 +1,21 @@
 package com.example.rqchallenge.service;
 
+import com.example.rqchallenge.config.EmployeeDeleteProperties;
 import com.example.rqchallenge.exception.ApiResponseException;
 import com.example.rqchallenge.exception.DataNotFoundException;
 import com.example.rqchallenge.exception.TooManyRequestException;
 import com.example.rqchallenge.feign.dto.EmployeeApiResponse;
 import com.example.rqchallenge.feign.dto.EmployeeDto;
 import com.example.rqchallenge.feign.dto.EmployeeListApiResponse;
+import com.example.rqchallenge.model.BulkItemResult;
 import com.example.rqchallenge.model.CreateEmployeeRequest;
 import com.example.rqchallenge.model.Employee;
+import com.example.rqchallenge.model.EmployeeField;
+import com.example.rqchallenge.model.EmployeePage;
 import com.github.tomakehurst.wiremock.WireMockServer;
 import com.github.tomakehurst.wiremock.client.WireMock;
 import com.github.tomakehurst.wiremock.common.Json;
+import com.github.tomakehurst.wiremock.stubbing.Scenario;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -24,7 +29,9 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import javax.validation.ConstraintViolationException;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.*;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -42,6 +49,9 @@ public class EmployeeServiceTest {
     @Autowired
     private IEmployeeService employeeService;
 
+    @Autowired
+    private EmployeeDeleteProperties deleteProperties;
+
     private WireMockServer wireMockServer;
 
     @BeforeEach
@@ -129,6 +139,81 @@ public class EmployeeServiceTest {
     }
 
 
+    @Test
+    public void testGetEmployeePage_SortedBySalary() {
+        EmployeeListApiResponse apiResponse = buildEmployeeListApiResponse();
+
+        wireMockServer.stubFor(get(urlEqualTo("/api/v1/employees"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody(Json.write(apiResponse))
+                )
+        );
+
+        EmployeePage ascending = employeeService.getEmployeePage(0, 1, EmployeeField.EMPLOYEE_SALARY, false);
+        EmployeePage secondPage = employeeService.getEmployeePage(1, 1, EmployeeField.EMPLOYEE_SALARY, true);
+
+        assertThat(ascending.getTotalElements()).isEqualTo(2);
+        assertThat(ascending.getEmployees()).extracting(Employee::getEmployeeName).containsExactly("Rohit Mehta");
+        assertThat(secondPage.getEmployees()).extracting(Employee::getEmployeeName).containsExactly("Rohit Mehta");
+    }
+
+    @Test
+    public void testGetEmployeePage_PastLastPage() {
+        EmployeeListApiResponse apiResponse = buildEmployeeListApiResponse();
+
+        wireMockServer.stubFor(get(urlEqualTo("/api/v1/employees"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody(Json.write(apiResponse))
+                )
+        );
+
+        EmployeePage employeePage = employeeService.getEmployeePage(5, 20, null, false);
+
+        assertThat(employeePage.getEmployees()).isEmpty();
+        assertThat(employeePage.getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    public void testStreamAllEmployees() {
+        EmployeeListApiResponse apiResponse = buildEmployeeListApiResponse();
+
+        wireMockServer.stubFor(get(urlEqualTo("/api/v1/employees"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody(Json.write(apiResponse))
+                )
+        );
+
+        List<Employee> employees;
+        try (Stream<Employee> employeeStream = employeeService.streamAllEmployees()) {
+            employees = employeeStream.toList();
+        }
+
+        assertThat(employees)
+                .usingRecursiveFieldByFieldElementComparator()
+                .isEqualTo(buildEmployeeList());
+        verify(getRequestedFor(urlEqualTo("/api/v1/employees")));
+    }
+
+    @Test
+    public void testStreamAllEmployees_WhenApiCallFailed() {
+        wireMockServer.stubFor(get(urlEqualTo("/api/v1/employees"))
+                .willReturn(aResponse()
+                        .withStatus(500)
+                        .withHeader("Content-Type", "application/json")
+                )
+        );
+
+        assertThatThrownBy(() -> employeeService.streamAllEmployees())
+                .isInstanceOf(ApiResponseException.class)
+                .hasMessageContaining("Failed to get the response from API");
+    }
+
     @Test
     public void testGetEmployeesByNameSearch() {
         EmployeeListApiResponse apiResponse = buildEmployeeListApiResponse();
@@ -401,6 +486,134 @@ public class EmployeeServiceTest {
         verify(getRequestedFor(urlEqualTo("/api/v1/delete/2")));
     }
 
+    @Test
+    public void testDeleteEmployeeById_NameLookedUpBeforeTheDeleteLands() {
+        EmployeeApiResponse deleted = buildEmployeeApiResponse();
+        deleted.setData(null);
+
+        // Once the delete lands the upstream no longer knows the employee, so a lookup after it would 404
+        wireMockServer.stubFor(get(urlEqualTo("/api/v1/employee/2")).inScenario("delete")
+                .whenScenarioStateIs(Scenario.STARTED)
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody(Json.write(buildEmployeeApiResponse()))
+                )
+        );
+        wireMockServer.stubFor(get(urlEqualTo("/api/v1/employee/2")).inScenario("delete")
+                .whenScenarioStateIs("deleted")
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody(Json.write(deleted))
+                )
+        );
+        wireMockServer.stubFor(get(urlEqualTo("/api/v1/delete/2")).inScenario("delete")
+                .willSetStateTo("deleted")
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody(Json.write(EmployeeApiResponse.builder().message("Record successfully deleted").status("success").build()))
+                )
+        );
+
+        assertThat(employeeService.deleteEmployeeById("2")).isEqualTo("Rohit Mehta");
+
+        verify(1, getRequestedFor(urlEqualTo("/api/v1/employee/2")));
+        verify(1, getRequestedFor(urlEqualTo("/api/v1/delete/2")));
+    }
+
+    @Test
+    public void testDeleteEmployeeById_UnknownIdIsNotDeleted() {
+        EmployeeApiResponse apiResponse = buildEmployeeApiResponse();
+        apiResponse.setData(null);
+
+        wireMockServer.stubFor(get(urlEqualTo("/api/v1/employee/25"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody(Json.write(apiResponse))
+                )
+        );
+
+        assertThatThrownBy(() -> employeeService.deleteEmployeeById("25"))
+                .isInstanceOf(DataNotFoundException.class);
+
+        verify(0, getRequestedFor(urlEqualTo("/api/v1/delete/25")));
+    }
+
+    @Test
+    public void testDeleteEmployeeById_WithoutNameResolution() {
+        wireMockServer.stubFor(get(urlEqualTo("/api/v1/delete/2"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody(Json.write(EmployeeApiResponse.builder().message("Record successfully deleted").status("success").build()))
+                )
+        );
+
+        deleteProperties.setNameResolution(EmployeeDeleteProperties.NameResolution.NONE);
+        try {
+            assertThat(employeeService.deleteEmployeeById("2")).isEqualTo("2");
+        } finally {
+            deleteProperties.setNameResolution(EmployeeDeleteProperties.NameResolution.SNAPSHOT);
+        }
+
+        verify(0, getRequestedFor(urlEqualTo("/api/v1/employee/2")));
+        verify(getRequestedFor(urlEqualTo("/api/v1/delete/2")));
+    }
+
+    @Test
+    public void testCreateEmployees_ReportsEachItem() {
+        CreateEmployeeRequest accepted = CreateEmployeeRequest.builder().name("Rohit Mehta").age(35).salary(5000d).build();
+        CreateEmployeeRequest rejected = CreateEmployeeRequest.builder().name("Sumit Shah").age(40).salary(7000d).build();
+
+        wireMockServer.stubFor(post(urlEqualTo("/api/v1/create"))
+                .withRequestBody(equalToJson(Json.write(accepted)))
+                .willReturn(aResponse()
+                        .withStatus(201)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody(Json.write(buildEmployeeApiResponse()))
+                )
+        );
+        wireMockServer.stubFor(post(urlEqualTo("/api/v1/create"))
+                .withRequestBody(equalToJson(Json.write(rejected)))
+                .willReturn(aResponse().withStatus(500))
+        );
+
+        List<BulkItemResult> results;
+        try (Stream<BulkItemResult> stream = employeeService.createEmployees(List.of(accepted, rejected))) {
+            results = stream.sorted(Comparator.comparingInt(BulkItemResult::getIndex)).toList();
+        }
+
+        assertThat(results).extracting(BulkItemResult::isSuccess).containsExactly(true, false);
+        assertThat(results.get(0).getEmployee().getEmployeeName()).isEqualTo("Rohit Mehta");
+        assertThat(results.get(1).getError()).isEqualTo("Failed to get the response from API");
+        //createEmployee is not idempotent, so the failed item is not retried
+        verify(2, postRequestedFor(urlEqualTo("/api/v1/create")));
+    }
+
+    @Test
+    public void testDeleteEmployeesById_SkipsReadBeforeDelete() {
+        wireMockServer.stubFor(get(urlMatching("/api/v1/delete/[12]"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody(Json.write(EmployeeApiResponse.builder().message("Record successfully deleted").status("success").build()))
+                )
+        );
+
+        List<BulkItemResult> results;
+        try (Stream<BulkItemResult> stream = employeeService.deleteEmployeesById(List.of("1", "2"))) {
+            results = stream.toList();
+        }
+
+        assertThat(results).hasSize(2).allMatch(BulkItemResult::isSuccess);
+        assertThat(results).extracting(BulkItemResult::getId).containsExactlyInAnyOrder("1", "2");
+        verify(0, getRequestedFor(urlMatching("/api/v1/employee/.*")));
+        verify(2, getRequestedFor(urlMatching("/api/v1/delete/.*")));
+    }
+
     private List<Employee> buildEmployeeList() {
         return List.of(
                 Employee.builder().id(1L).employeeName("Punit Jain").employeeAge(34).employeeSalary(10000d).profileImage("123").build(),
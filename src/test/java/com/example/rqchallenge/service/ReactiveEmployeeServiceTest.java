@@ -0,0 +1,179 @@
+package com.example.rqchallenge.service;
+
+import com.example.rqchallenge.cache.ReactiveEmployeeSnapshotCache;
+import com.example.rqchallenge.config.EmployeeApiRetryProperties;
+import com.example.rqchallenge.config.EmployeeCacheProperties;
+import com.example.rqchallenge.config.EmployeeDeleteProperties;
+import com.example.rqchallenge.config.EmployeeMetricsProperties;
+import com.example.rqchallenge.exception.ApiResponseException;
+import com.example.rqchallenge.exception.DataNotFoundException;
+import com.example.rqchallenge.exception.ErrorLogThrottle;
+import com.example.rqchallenge.feign.dto.EmployeeApiResponse;
+import com.example.rqchallenge.feign.dto.EmployeeDto;
+import com.example.rqchallenge.feign.dto.EmployeeListApiResponse;
+import com.example.rqchallenge.mapper.EmployeeMapper;
+import com.example.rqchallenge.model.CreateEmployeeRequest;
+import com.example.rqchallenge.model.Employee;
+import com.example.rqchallenge.model.EmployeeField;
+import com.example.rqchallenge.webclient.ReactiveEmployeeApiClient;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.github.tomakehurst.wiremock.common.Json;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ReactiveEmployeeServiceTest {
+
+    private WireMockServer wireMockServer;
+
+    private ReactiveEmployeeService employeeService;
+
+    @BeforeEach
+    public void setup() {
+        wireMockServer = new WireMockServer(options().dynamicPort());
+        wireMockServer.start();
+        EmployeeApiRetryProperties retryProperties = new EmployeeApiRetryProperties();
+        retryProperties.setMinRetriesPerSecond(100);
+        EmployeeMapper employeeMapper = new EmployeeMapper();
+        ReactiveEmployeeApiClient employeeApiClient = new ReactiveEmployeeApiClient(WebClient.builder(),
+                wireMockServer.baseUrl(), retryProperties);
+        employeeService = new ReactiveEmployeeService(employeeApiClient, employeeMapper,
+                new ReactiveEmployeeSnapshotCache(employeeApiClient, employeeMapper, new EmployeeCacheProperties(),
+                        new SimpleMeterRegistry()),
+                new EmployeeDeleteProperties(), new ErrorLogThrottle(new EmployeeMetricsProperties()));
+    }
+
+    @AfterEach
+    public void teardown() {
+        wireMockServer.stop();
+    }
+
+    @Test
+    public void testGetAllEmployees_ServedFromCache() {
+        stubEmployees(aResponse().withStatus(200)
+                .withHeader("Content-Type", "application/json")
+                .withBody(Json.write(buildEmployeeListApiResponse())));
+
+        StepVerifier.create(employeeService.getAllEmployees().collectList())
+                .assertNext(employees -> assertThat(employees)
+                        .usingRecursiveFieldByFieldElementComparator()
+                        .isEqualTo(buildEmployeeList()))
+                .verifyComplete();
+        StepVerifier.create(employeeService.getHighestSalaryOfEmployees())
+                .expectNext(10000)
+                .verifyComplete();
+
+        wireMockServer.verify(1, getRequestedFor(urlEqualTo("/api/v1/employees")));
+    }
+
+    @Test
+    public void testGetEmployeePage_SortedBySalaryDescending() {
+        stubEmployees(aResponse().withStatus(200)
+                .withHeader("Content-Type", "application/json")
+                .withBody(Json.write(buildEmployeeListApiResponse())));
+
+        StepVerifier.create(employeeService.getEmployeePage(0, 1, EmployeeField.EMPLOYEE_SALARY, true))
+                .assertNext(employeePage -> {
+                    assertThat(employeePage.getTotalElements()).isEqualTo(2);
+                    assertThat(employeePage.getEmployees()).extracting(Employee::getEmployeeName).containsExactly("Punit Jain");
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testGetAllEmployees_WhenApiCallFailed() {
+        stubEmployees(aResponse().withStatus(500).withHeader("Content-Type", "application/json"));
+
+        StepVerifier.create(employeeService.getAllEmployees())
+                .expectErrorSatisfies(exception -> assertThat(exception)
+                        .isInstanceOf(ApiResponseException.class)
+                        .hasMessageContaining("Failed to get the response from API"))
+                .verify();
+
+        //It ensures retry is working
+        wireMockServer.verify(3, getRequestedFor(urlEqualTo("/api/v1/employees")));
+    }
+
+    @Test
+    public void testGetEmployeeById_WhenIdNotExist() {
+        EmployeeApiResponse apiResponse = buildEmployeeApiResponse();
+        apiResponse.setData(null);
+        wireMockServer.stubFor(get(urlEqualTo("/api/v1/employee/25"))
+                .willReturn(aResponse().withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody(Json.write(apiResponse))));
+
+        StepVerifier.create(employeeService.getEmployeeById("25"))
+                .expectError(DataNotFoundException.class)
+                .verify();
+    }
+
+    @Test
+    public void testCreateEmployee_NotRetried() {
+        wireMockServer.stubFor(post(urlEqualTo("/api/v1/create"))
+                .willReturn(aResponse().withStatus(500)));
+
+        StepVerifier.create(employeeService.createEmployee(CreateEmployeeRequest.builder().name("Rohit Mehta").age(35).salary(5000d).build()))
+                .expectError(ApiResponseException.class)
+                .verify();
+
+        wireMockServer.verify(1, postRequestedFor(urlEqualTo("/api/v1/create")));
+    }
+
+    @Test
+    public void testDeleteEmployeeById_NameFromSnapshot() {
+        stubEmployees(aResponse().withStatus(200)
+                .withHeader("Content-Type", "application/json")
+                .withBody(Json.write(buildEmployeeListApiResponse())));
+        wireMockServer.stubFor(get(urlEqualTo("/api/v1/delete/2"))
+                .willReturn(aResponse().withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody(Json.write(EmployeeApiResponse.builder().message("Record successfully deleted").status("success").build()))));
+
+        StepVerifier.create(employeeService.getAllEmployees().then()).verifyComplete();
+        StepVerifier.create(employeeService.deleteEmployeeById("2"))
+                .expectNext("Rohit Mehta")
+                .verifyComplete();
+
+        wireMockServer.verify(0, getRequestedFor(urlEqualTo("/api/v1/employee/2")));
+        wireMockServer.verify(1, getRequestedFor(urlEqualTo("/api/v1/delete/2")));
+    }
+
+    private void stubEmployees(ResponseDefinitionBuilder response) {
+        wireMockServer.stubFor(get(urlEqualTo("/api/v1/employees")).willReturn(response));
+    }
+
+    private List<Employee> buildEmployeeList() {
+        return List.of(
+                Employee.builder().id(1L).employeeName("Punit Jain").employeeAge(34).employeeSalary(10000d).profileImage("123").build(),
+                Employee.builder().id(2L).employeeName("Rohit Mehta").employeeAge(35).employeeSalary(5000d).profileImage("456").build());
+    }
+
+    private EmployeeListApiResponse buildEmployeeListApiResponse() {
+        return EmployeeListApiResponse.builder()
+                .status("success")
+                .data(List.of(
+                        EmployeeDto.builder().id(1L).employeeName("Punit Jain").employeeAge(34).employeeSalary(10000).profileImage("123").build(),
+                        EmployeeDto.builder().id(2L).employeeName("Rohit Mehta").employeeAge(35).employeeSalary(5000).profileImage("456").build()))
+                .message("Successfully! All records has been fetched.")
+                .build();
+    }
+
+    private EmployeeApiResponse buildEmployeeApiResponse() {
+        return EmployeeApiResponse.builder()
+                .status("success")
+                .data(EmployeeDto.builder().id(2L).employeeName("Rohit Mehta").employeeAge(35).employeeSalary(5000).profileImage("456").build())
+                .message("Successfully! All records has been fetched.")
+                .build();
+    }
+}